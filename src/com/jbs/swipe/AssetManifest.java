@@ -0,0 +1,192 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * The assets listed in assets/res, each with the group it is loaded in, the type of asset it is and the parameters
+ * to load it with. An asset's handle is its index in the manifest, so anything resolved from the asset can be kept
+ * in an array indexed by the handle rather than a map keyed by the path.
+ *
+ * The ManifestCompiler writes the manifest beside the text list as a binary file, with every path already checked
+ * to exist and typed by its extension, so the Game only reads it at startup. The text list is parsed and checked
+ * when the binary manifest is missing or was compiled from a different text list.
+ */
+public final class AssetManifest {
+	
+	/** The types of asset. */
+	public static final byte
+		TEXTURE = 0, // .png, .jpg or .jpeg
+		MUSIC = 1, // .mp3
+		SOUND = 2, // .wav
+		FONT = 3, // .fnt
+		ATLAS = 4; // .txt
+	
+	/** The bits of an asset's load flags. */
+	public static final byte
+		LINEAR_FILTER = 1, // Textures and fonts are filtered linearly rather than by nearest pixel.
+		MIPMAPS = 2; // Textures generate mip maps.
+	
+	/** The handle of an asset that is not in the manifest. */
+	public static final int NO_HANDLE = -1;
+	
+	/** The suffix added to the text list's path to name the binary manifest compiled from it. */
+	public static final String BINARY_SUFFIX = ".bin";
+	
+	private static final int MAGIC = 0x53574d46, VERSION = 1;
+	
+	private final ArrayList<String> paths = new ArrayList<String>();
+	private final ByteArray types = new ByteArray(), flags = new ByteArray();
+	private final IntArray groups = new IntArray();
+	/* The handle of each path, built the first time a handle is looked up by path. */
+	private HashMap<String, Integer> handles;
+	
+	/** @return the manifest of the text list, read from the binary manifest compiled from it if there is one that is up to date. */
+	public static AssetManifest load(FileHandle list) {
+		final String text = list.readString();
+		final FileHandle binary = Gdx.files.internal(list.path() + BINARY_SUFFIX);
+		if (binary.exists()) {
+			final AssetManifest manifest = readBinary(binary, text.hashCode());
+			if (manifest != null)
+				return manifest;
+			System.out.println("Binary asset manifest " + binary.path() + " is out of date, reading " + list.path() + " instead.");
+		}
+		return parse(text, null);
+	}
+	
+	/**
+	 * Parse the text list. A line of the form "[group]" starts a group, paths before the first group header belong to
+	 * the boot group. Paths that do not exist or have an unknown extension are left out with a warning in the console.
+	 * @param root The directory the paths are relative to, or null to find them among the internal files.
+	 */
+	public static AssetManifest parse(String text, FileHandle root) {
+		final AssetManifest manifest = new AssetManifest();
+		int group = Assets.BOOT;
+		for (String path : text.split("\r\n")) {
+			if (path.length() == 0)
+				continue;
+			if (path.startsWith("[") && path.endsWith("]")) {
+				group = Assets.groupNamed(path.substring(1, path.length() - 1));
+				continue;
+			}
+			// the file doesn't exist, so we tell them about it and continue onto the next.
+			if (!((root == null)? Gdx.files.internal(path) : root.child(path)).exists()) {
+				System.err.println("Asset at path: "+path+" does not exist!");
+				continue;
+			}
+			final int type = typeOf(path);
+			if (type == -1) {
+				// The file does not have a valid file extension, alert the user via the console.
+				System.out.println("Assets could not load asset \"" + path + "\", unknown file extension.");
+				continue;
+			}
+			manifest.add(path, (byte) type, defaultFlagsOf(type), group);
+		}
+		return manifest;
+	}
+	
+	/**
+	 * @return the manifest in the binary file, or null if it was compiled from a text list with another hash or an
+	 * older format. The file is an int MAGIC, short VERSION, int hash of the text list and short number of assets,
+	 * followed by each asset's group, type and flags bytes and it's path.
+	 */
+	public static AssetManifest readBinary(FileHandle file, int listHash) {
+		final ByteReader input = new ByteReader(file.readBytes());
+		if (input.readInt() != MAGIC)
+			throw new RuntimeException("Error in AssetManifest : " + file.path() + " is not an asset manifest.");
+		if (input.readShort() != VERSION || input.readInt() != listHash)
+			return null;
+		
+		final AssetManifest manifest = new AssetManifest();
+		final int size = input.readShort();
+		for (int handle = 0; handle != size; handle ++) {
+			final int group = input.readByte();
+			final byte type = (byte) input.readByte(), flags = (byte) input.readByte();
+			manifest.add(input.readString(), type, flags, group);
+		}
+		return manifest;
+	}
+	
+	/** @return the manifest in the binary format read by readBinary().
+	 * @param listHash The hash of the text list the manifest was parsed from, so stale binaries can be detected. */
+	public byte[] toBinary(int listHash) {
+		final ByteWriter output = new ByteWriter();
+		output.writeInt(MAGIC).writeShort(VERSION).writeInt(listHash).writeShort(size());
+		for (int handle = 0; handle != size(); handle ++)
+			output.writeByte(groups.get(handle))
+				.writeByte(types.get(handle))
+				.writeByte(flags.get(handle))
+				.writeString(paths.get(handle));
+		return output.toArray();
+	}
+	
+	/** Add the asset to the end of the manifest.
+	 * @return the asset's handle. */
+	public int add(String path, byte type, byte flags, int group) {
+		paths.add(path);
+		this.types.add(type);
+		this.flags.add(flags);
+		this.groups.add(group);
+		if (handles != null)
+			handles.put(path, paths.size() - 1);
+		return paths.size() - 1;
+	}
+	
+	/** @return the handle of the asset at the path, or NO_HANDLE if it is not in the manifest. */
+	public int handleOf(String path) {
+		if (handles == null) {
+			handles = new HashMap<String, Integer>(paths.size() * 2);
+			for (int handle = 0; handle != paths.size(); handle ++)
+				handles.put(paths.get(handle), handle);
+		}
+		final Integer handle = handles.get(path);
+		return (handle == null)? NO_HANDLE : handle;
+	}
+	
+	/** @return the number of assets in the manifest. */
+	public int size() {
+		return paths.size();
+	}
+	
+	public String path(int handle) {
+		return paths.get(handle);
+	}
+	
+	public byte type(int handle) {
+		return types.get(handle);
+	}
+	
+	public byte flags(int handle) {
+		return flags.get(handle);
+	}
+	
+	public int group(int handle) {
+		return groups.get(handle);
+	}
+	
+	/** @return the type of the asset at the path judged by its extension, or -1 if the extension is unknown. */
+	public static int typeOf(String path) {
+		if (path.endsWith("png") || path.endsWith("jpg") || path.endsWith("jpeg"))
+			return TEXTURE;
+		else if (path.endsWith("mp3"))
+			return MUSIC;
+		else if (path.endsWith("wav"))
+			return SOUND;
+		else if (path.endsWith("fnt"))
+			return FONT;
+		else if (path.endsWith("txt"))
+			return ATLAS;
+		return -1;
+	}
+	
+	/** @return the flags that assets of the type are loaded with. */
+	public static byte defaultFlagsOf(int type) {
+		// Smooth textures are the default, we aren't in need of mip maps.
+		return (type == TEXTURE || type == FONT)? LINEAR_FILTER : 0;
+	}
+}
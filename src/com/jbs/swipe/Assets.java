@@ -1,5 +1,8 @@
 package com.jbs.swipe;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.BitmapFontLoader.BitmapFontParameter;
@@ -13,87 +16,466 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 public class Assets {
-
+	
+	/** The asset groups of the manifest, in the order they are loaded when nothing has been prioritized. */
+	public static final int
+		BOOT = 0, // Needed before anything can be shown, such as the tile atlas.
+		MENU = 1, // The MainMenuState and GameModeSelectionState.
+		ARCADE = 2, // The Arcade Levels, their GUI and Traps.
+		FORMATION = 3, // The Formation and Puzzle Levels.
+		SHOP = 4; // The ShopState.
+	
+	/** The names of the groups, as they are written in the manifest's "[group]" headers. */
+	public static final String[] GROUP_NAMES = {
+		"boot", "menu", "arcade", "formation", "shop"
+	};
+	
+	/** The groups that are loaded before the first interactive frame, the rest are streamed in the background. */
+	public static final int[] STARTUP_GROUPS = { BOOT, MENU };
+	
+	/** The prefix of the atlases that the AtlasPacker packs the standalone Textures listed in assets/res into.
+	 * Each group is packed into it's own atlas, named the prefix followed by "-" and the group's name. */
+	public static final String PACKED_ATLAS_PREFIX = "assets/output/standalone";
+	
+	private static final String ATLAS = "assets/output/texturepack_0.txt";
+	private static final int GROUPS = GROUP_NAMES.length;
+	
 	static TextureAtlas atlas;
+	/* The regions of the atlas by name, registered once the atlas has loaded so finding a region is not a scan of the atlas. */
+	private static final HashMap<String, AtlasRegion> atlasRegions = new HashMap<String, AtlasRegion>();
+	/* The regions of the packed atlases that have finished loading by name. */
+	private static final HashMap<String, AtlasRegion> packedRegions = new HashMap<String, AtlasRegion>();
+	/* The names requested through regionId(), and each id's region once resolved. */
+	private static final ArrayList<String> regionNames = new ArrayList<String>();
+	private static final HashMap<String, Integer> regionIds = new HashMap<String, Integer>();
+	private static final ArrayList<AtlasRegion> regionsById = new ArrayList<AtlasRegion>();
+	/* The paths of the packed atlases that are queued and have not finished loading. */
+	private static final ArrayList<String> queuedPackedAtlases = new ArrayList<String>();
 	public static AssetManager assets;
 	
+	/* The assets listed in the resource file. */
+	private static AssetManifest manifest;
+	/* The handles of the assets in each group of the manifest. */
+	private static final ArrayList<IntArray> groups = new ArrayList<IntArray>();
+	/* Each asset of the manifest by its handle, once it has been requested after loading. */
+	private static Object[] loadedAssets;
+	
+	/* The paths of the images requested through textureHandle(), the handle of each path and each handle's region once resolved. */
+	private static final ArrayList<String> regionPaths = new ArrayList<String>();
+	private static final HashMap<String, Integer> regionHandles = new HashMap<String, Integer>();
+	private static final ArrayList<TextureRegion> regions = new ArrayList<TextureRegion>();
+	/* The Textures that are not in the manifest by path, loaded by getOrLoadTexture() outside of the AssetManager. */
+	private static final HashMap<String, Texture> unlistedTextures = new HashMap<String, Texture>();
+	/* True when the group's paths have been added to the AssetManager's queue. */
+	private static final boolean[] queued = new boolean[GROUPS];
+	/* The group's priority, the pending group with the highest priority is queued next. */
+	private static final int[] priority = new int[GROUPS];
+	private static int lastPriority;
+	
+	/* The paths in the order they were queued, which is the order the AssetManager loads them in, and their groups. */
+	private static final ArrayList<String> loadOrder = new ArrayList<String>(), loadOrderGroups = new ArrayList<String>();
+	/* The index in loadOrder of the asset being loaded, the nano time it began loading
+	 * and the time spent in AssetManager.update() since. Used to trace the startup. */
+	private static int nextToLoad;
+	private static long loadStart, loadMainThreadTime;
+	
 	public static void init() {
 		assets = new AssetManager();
 	}
 	
 	/**
-	 * Add all assets from an resource file pointed by resource to the AssetManagers queue.
+	 * Read the groups of the resource file pointed by resource and add the startup groups to the AssetManager's queue.
+	 * The other groups are queued one at a time by update() once the groups before them have loaded.
+	 * A line of the form "[group]" starts a group, paths before the first group header belong to the boot group.
 	 * Supported Texture file extensions are : .png, .jpeg, and .jpg
 	 * Supported Music file extensions are : .mp3
 	 * Supported Sound file extendions are : .wav
 	 * If the file has another extension, it is not added to the AssetManager's
 	 * loading queue and instead prints a warning in the console.
+	 * If the ManifestCompiler has compiled the resource file, the compiled AssetManifest is read instead.
 	 */
 	public static void loadAssetsFrom(FileHandle resource) {
 		if(assets==null) init();
+		StartupTrace.begin("Assets.loadAssetsFrom");
+		
+		groups.clear();
+		for (int group = 0; group != GROUPS; group ++) {
+			groups.add(new IntArray());
+			queued[group] = false;
+			priority[group] = 0;
+		}
 		
-		String[] resourceLines = resource.readString().split("\r\n");
-		for(int i=0;i<resourceLines.length;i++) {
-			String path = resourceLines[i];
-			// the file doesn't exist, so we tell them about it and continue onto the next.
-			if(!Gdx.files.internal(path).exists()) {
-				System.err.println("Asset at path: "+path+" does not exist!");
-				continue;
+		// Forget the regions resolved from the assets of a Game that ran before in this process.
+		atlas = null;
+		atlasRegions.clear();
+		packedRegions.clear();
+		queuedPackedAtlases.clear();
+		for (int i = 0; i != regionsById.size(); i ++)
+			regionsById.set(i, null);
+		for (int i = 0; i != regions.size(); i ++)
+			regions.set(i, null);
+		for (Texture texture : unlistedTextures.values())
+			texture.dispose();
+		unlistedTextures.clear();
+		
+		manifest = AssetManifest.load(resource);
+		loadedAssets = new Object[manifest.size()];
+		for (int handle = 0; handle != manifest.size(); handle ++)
+			groups.get(manifest.group(handle)).add(handle);
+		
+		for (int startupGroup : STARTUP_GROUPS)
+			queue(startupGroup);
+		StartupTrace.end("Assets.loadAssetsFrom");
+	}
+	
+	/**
+	 * Load some of the queued assets. When the queue is empty, the pending group with the highest priority is queued.
+	 * Called every frame, so the groups that are not needed at startup stream in while the Game is played.
+	 * @return true if the startup groups have finished loading.
+	 */
+	public static boolean update(){
+		final long updateStart = System.nanoTime();
+		final boolean queueIsEmpty = assets.update();
+		traceLoadedAssets(System.nanoTime() - updateStart);
+		findLoadedAtlases();
+		
+		if (queueIsEmpty) {
+			final int next = nextPendingGroup();
+			if (next != -1) {
+				System.out.println("Streaming asset group \"" + GROUP_NAMES[next] + "\".");
+				queue(next);
+			} else
+				StartupTrace.streamingFinished();
+		}
+		
+		return startupGroupsLoaded();
+	}
+	
+	/** Load the group's assets next, ahead of the groups with a lower priority. Groups that are already queued are not affected. */
+	public static void prioritize(int group) {
+		priority[group] = ++ lastPriority;
+	}
+	
+	/** Block until the group has loaded. Used when a State that needs the group is entered before it has streamed in. */
+	public static void finishLoading(int group) {
+		if (isLoaded(group))
+			return;
+		
+		System.out.println("Waiting for asset group \"" + GROUP_NAMES[group] + "\" to load.");
+		StartupTrace.begin("Assets.finishLoading " + GROUP_NAMES[group]);
+		queue(group);
+		final long loadingStart = System.nanoTime();
+		assets.finishLoading();
+		traceLoadedAssets(System.nanoTime() - loadingStart);
+		findLoadedAtlases();
+		StartupTrace.end("Assets.finishLoading " + GROUP_NAMES[group]);
+	}
+	
+	/** @return true if all of the group's assets have loaded. */
+	public static boolean isLoaded(int group) {
+		if (!queued[group])
+			return groups.isEmpty() || groups.get(group).size == 0;
+		final IntArray handles = groups.get(group);
+		for (int i = 0; i != handles.size; i ++)
+			if (!assets.isLoaded(manifest.path(handles.get(i))))
+				return false;
+		return true;
+	}
+	
+	/** @return true if the groups needed before the first interactive frame have loaded. */
+	public static boolean startupGroupsLoaded() {
+		for (int group : STARTUP_GROUPS)
+			if (!isLoaded(group))
+				return false;
+		return true;
+	}
+	
+	/** @return the ID of the group with the specified name. */
+	public static int groupNamed(String name) {
+		for (int group = 0; group != GROUPS; group ++)
+			if (GROUP_NAMES[group].equals(name))
+				return group;
+		throw new RuntimeException("Unknown asset group \"" + name + "\", must be one of boot, menu, arcade, formation or shop.");
+	}
+	
+	public static <T> T get(String path, Class<T> type){
+		return assets.get(path, type);
+	}
+	
+	/** @return the handle of the asset at the path in the manifest, or AssetManifest.NO_HANDLE if it is not listed.
+	 * Look the handle up once and keep it, so the asset can be retrieved without a lookup by path. */
+	public static int handleOf(String path) {
+		return manifest.handleOf(path);
+	}
+	
+	/** @return the asset with the handle, which must have finished loading. */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(int handle, Class<T> type) {
+		Object asset = loadedAssets[handle];
+		if (asset == null)
+			asset = loadedAssets[handle] = assets.get(manifest.path(handle), type);
+		return (T) asset;
+	}
+	
+	/** @return the handle of the image at the path, to retrieve its region with texture(handle). Look the handle up
+	 * once and keep it, the image may be a standalone Texture or packed into an atlas. */
+	public static int textureHandle(String path) {
+		Integer handle = regionHandles.get(path);
+		if (handle == null) {
+			handle = regionPaths.size();
+			regionPaths.add(path);
+			regions.add(null);
+			regionHandles.put(path, handle);
+		}
+		return handle;
+	}
+	
+	/** @return the region of the image with the handle from textureHandle(). The region is resolved the first time it is
+	 * requested after its Texture or atlas has loaded and shared by every request after, so it must not be modified. */
+	public static TextureRegion texture(int handle) {
+		TextureRegion region = regions.get(handle);
+		if (region == null) {
+			final String path = regionPaths.get(handle);
+			// Textures that have been packed into an atlas resolve to their region of the atlas.
+			region = getPackedRegion(path);
+			if (region == null) {
+				final int assetHandle = handleOf(path);
+				region = new TextureRegion((assetHandle == AssetManifest.NO_HANDLE)?
+					unlistedTexture(path) : get(assetHandle, Texture.class));
 			}
-			// If the file has a Texture file extension,
-			if (path.endsWith("png") || path.endsWith("jpg") || path.endsWith("jpeg")) {
-				TextureParameter texParams = new TextureParameter();
-				texParams.minFilter = texParams.magFilter = TextureFilter.Linear; //lets make smooth textures the default yay!
-				texParams.genMipMaps = false; //we aren't in need of mip maps so lets free up some memory.
-				assets.load(path, Texture.class, texParams);
+			regions.set(handle, region);
+		}
+		return region;
+	}
+	
+	/** @return the Texture at the path. A Texture that is not in the manifest is loaded now on its own, rather than through
+	 * the AssetManager, so the caller does not also wait for the groups that are streaming in the background.
+	 * A Texture in the manifest must be in a group the caller has already waited on, otherwise its group is finished. */
+	public static Texture getOrLoadTexture(String path) {
+		if (assets.isLoaded(path, Texture.class))
+			return assets.get(path, Texture.class);
+		
+		final int handle = handleOf(path);
+		if (handle != AssetManifest.NO_HANDLE) {
+			finishLoading(manifest.group(handle));
+			return get(handle, Texture.class);
+		}
+		
+		Texture texture = unlistedTextures.get(path);
+		if (texture == null) {
+			final long loadingStart = System.nanoTime();
+			final byte flags = AssetManifest.defaultFlagsOf(AssetManifest.TEXTURE);
+			texture = new Texture(Gdx.files.internal(path), (flags & AssetManifest.MIPMAPS) != 0);
+			texture.setFilter(filterOf(flags), filterOf(flags));
+			unlistedTextures.put(path, texture);
+			if (StartupTrace.isRecording()) {
+				final long loadingEnd = System.nanoTime();
+				StartupTrace.asset(path, "unlisted", loadingStart, loadingEnd, loadingEnd - loadingStart, sizeOf(path));
 			}
-			else if (path.endsWith("mp3"))
+		}
+		return texture;
+	}
+	
+	/** @return the Texture at the path loaded by getOrLoadTexture() if it is not in the manifest, otherwise the AssetManager's. */
+	private static Texture unlistedTexture(String path) {
+		final Texture texture = unlistedTextures.get(path);
+		return (texture == null)? assets.get(path, Texture.class) : texture;
+	}
+	
+	/** @return the region of the atlas with the name. Code that retrieves the region every frame should keep the id from regionId() instead. */
+	public static TextureRegion getAtlasRegion(String path){
+		if (atlas == null)
+			throw new RuntimeException("Error in Assets.getAtlasRegion() : Cannot get region \"" + path + "\" before the atlas has loaded.");
+		return atlasRegions.get(path);
+	}
+	
+	/** @return the id of the atlas region with the name, to retrieve the region with getAtlasRegion(id).
+	 * Ids can be taken before the atlas has loaded, such as in static initializers. */
+	public static int regionId(String name) {
+		Integer id = regionIds.get(name);
+		if (id == null) {
+			id = regionNames.size();
+			regionNames.add(name);
+			regionsById.add(null);
+			regionIds.put(name, id);
+		}
+		return id;
+	}
+	
+	/** @return the region of the atlas with the id from regionId(). */
+	public static TextureRegion getAtlasRegion(int id) {
+		AtlasRegion region = regionsById.get(id);
+		if (region == null) {
+			region = (AtlasRegion) getAtlasRegion(regionNames.get(id));
+			regionsById.set(id, region);
+		}
+		return region;
+	}
+	
+	/** @return a new PackedRegion of the image at the path if it has been packed into a loaded packed atlas, otherwise null. */
+	public static TextureRegion getPackedRegion(String path) {
+		final AtlasRegion region = packedRegions.get(packedRegionName(path));
+		return (region == null)? null : new PackedRegion(region, path);
+	}
+	
+	/** @return the name of the region that the image at the path is packed into, its path
+	 * without the leading "assets/" and the file extension. */
+	public static String packedRegionName(String path) {
+		final int
+			start = path.startsWith("assets/")? "assets/".length() : 0,
+			end = path.lastIndexOf('.');
+		return path.substring(start, (end > start)? end : path.length());
+	}
+	
+	/** @return the path of the atlas the AtlasPacker packs the group's standalone Textures into. */
+	public static String packedAtlasOf(int group) {
+		return PACKED_ATLAS_PREFIX + "-" + GROUP_NAMES[group] + ".txt";
+	}
+	
+	/** @return the loading progress of the startup groups, from 0 to 1. The groups streamed in the background are not counted. */
+	public static float getProgress() {
+		int total = 0, loaded = 0;
+		for (int group : STARTUP_GROUPS) {
+			final IntArray handles = groups.get(group);
+			total += handles.size;
+			for (int i = 0; i != handles.size; i ++)
+				if (assets.isLoaded(manifest.path(handles.get(i))))
+					loaded ++;
+		}
+		return (total == 0)? 1f : (float) loaded / total;
+	}
+	
+	/** Add the group's paths to the AssetManager's queue. */
+	private static void queue(int group) {
+		if (queued[group])
+			return;
+		queued[group] = true;
+		
+		// The manifest's paths have been checked to exist and typed when it was parsed or compiled.
+		final IntArray handles = groups.get(group);
+		for (int i = 0; i != handles.size; i ++) {
+			final int handle = handles.get(i);
+			final String path = manifest.path(handle);
+			final byte flags = manifest.flags(handle);
+			switch (manifest.type(handle)) {
+			case AssetManifest.TEXTURE :
+				assets.load(path, Texture.class, textureParameters(flags));
+				break;
+			case AssetManifest.MUSIC :
 				assets.load(path, Music.class);
-			else if (path.endsWith("wav"))
+				break;
+			case AssetManifest.SOUND :
 				assets.load(path, Sound.class);
-			else if (path.endsWith("fnt")) {
-				BitmapFontParameter fontParams = new BitmapFontParameter();
-				//libgdx has a typo in minFilter lol
-				fontParams.minFitler = fontParams.maxFilter = TextureFilter.Linear; //lets make smooth textures the default yay!
-				assets.load(path, BitmapFont.class, fontParams);
-			}
-			else if(path.endsWith("txt")){
+				break;
+			case AssetManifest.FONT :
+				assets.load(path, BitmapFont.class, fontParameters(flags));
+				break;
+			case AssetManifest.ATLAS :
 				//TextureAtlas pack = new TextureAtlas(path);
 				assets.load(path, TextureAtlas.class);
-			}
-			//else if (path.endsWith("fx"))
+				if (path.startsWith(PACKED_ATLAS_PREFIX))
+					queuedPackedAtlases.add(path);
+				break;
+			//case AssetManifest.EFFECT :
 			//	assets.load(path, ParticleEffect.class);
-			else {
-				// The file does not have a valid file extension, alert the user via the console.
-				System.out.println("Assets could not load asset \"" + resource.name() + "\", unknown file extension.");
-				continue;
+			default :
+				throw new RuntimeException("Assets could not load asset \"" + path + "\", unknown asset type " + manifest.type(handle) + ".");
 			}
-			System.out.println("Successfully loaded resource: "+path);
+			addToLoadOrder(path, GROUP_NAMES[group]);
+			System.out.println("Queued resource: "+path);
 		}
 	}
 	
-	public static boolean update(){
-		if(assets.update()){
-			atlas = assets.get("assets/output/texturepack_0.txt");
+	private static void addToLoadOrder(String path, String group) {
+		// If nothing was loading, the asset begins loading now.
+		if (nextToLoad == loadOrder.size())
+			loadStart = System.nanoTime();
+		loadOrder.add(path);
+		loadOrderGroups.add(group);
+	}
+	
+	/** Add the assets that have finished loading to the StartupTrace. The AssetManager loads one asset at a time in the
+	 * order they were queued, so each asset's load lasted from when the asset before it finished until it was found loaded.
+	 * @param mainThreadTime The nano time spent loading since the last call. */
+	private static void traceLoadedAssets(long mainThreadTime) {
+		if (!StartupTrace.isRecording())
+			return;
+		
+		loadMainThreadTime += mainThreadTime;
+		final long now = System.nanoTime();
+		while (nextToLoad != loadOrder.size() && assets.isLoaded(loadOrder.get(nextToLoad))) {
+			final String path = loadOrder.get(nextToLoad);
+			StartupTrace.asset(path, loadOrderGroups.get(nextToLoad), loadStart, now, loadMainThreadTime, sizeOf(path));
+			nextToLoad ++;
+			loadStart = now;
+			loadMainThreadTime = 0;
+		}
+	}
+	
+	/** @return the size in bytes of the asset's file and the files it depends on, such as the pages of an atlas. */
+	private static long sizeOf(String path) {
+		long size = Gdx.files.internal(path).length();
+		final Array<String> dependencies = assets.getDependencies(path);
+		if (dependencies != null)
+			for (String dependency : dependencies)
+				size += Gdx.files.internal(dependency).length();
+		return size;
+	}
+	
+	/** @return the pending group with the highest priority, the earliest group if none are prioritized, or -1 if all are queued. */
+	private static int nextPendingGroup() {
+		int next = -1;
+		for (int group = 0; group != GROUPS; group ++)
+			if (!queued[group] && (next == -1 || priority[group] > priority[next]))
+				next = group;
+		return next;
+	}
+	
+	/** Keep the atlases that have finished loading since the last update. */
+	private static void findLoadedAtlases() {
+		if (atlas == null && assets.isLoaded(ATLAS)) {
+			atlas = assets.get(ATLAS);
+			registerRegionsOf(atlas, atlasRegions);
 			for(AtlasRegion region : atlas.getRegions()) {
 				System.out.println("Atlas region: "+region.name+" loaded successfully!");
 			}
-			return true;
 		}
-		return false;
+		
+		for (int i = 0; i != queuedPackedAtlases.size(); i ++) {
+			final String packedAtlas = queuedPackedAtlases.get(i);
+			if (assets.isLoaded(packedAtlas)) {
+				registerRegionsOf(assets.get(packedAtlas, TextureAtlas.class), packedRegions);
+				queuedPackedAtlases.remove(i --);
+			}
+		}
 	}
 	
-	public static <T> T get(String path, Class<T> type){
-		return assets.get(path, type);
+	/** Add the atlas's regions to the registry. Like TextureAtlas.findRegion(), the first region with a name is kept. */
+	private static void registerRegionsOf(TextureAtlas atlas, HashMap<String, AtlasRegion> registry) {
+		for (AtlasRegion region : atlas.getRegions())
+			if (!registry.containsKey(region.name))
+				registry.put(region.name, region);
 	}
 	
-	public static TextureRegion getAtlasRegion(String path){
-		return atlas.findRegion(path);
+	private static TextureParameter textureParameters(byte flags) {
+		TextureParameter texParams = new TextureParameter();
+		texParams.minFilter = texParams.magFilter = filterOf(flags); //lets make smooth textures the default yay!
+		texParams.genMipMaps = (flags & AssetManifest.MIPMAPS) != 0; //we aren't in need of mip maps so lets free up some memory.
+		return texParams;
 	}
-
-	public static float getProgress() {
-		return assets.getProgress();
+	
+	private static BitmapFontParameter fontParameters(byte flags) {
+		BitmapFontParameter fontParams = new BitmapFontParameter();
+		//libgdx has a typo in minFilter lol
+		fontParams.minFitler = fontParams.maxFilter = filterOf(flags);
+		return fontParams;
+	}
+	
+	private static TextureFilter filterOf(byte flags) {
+		return ((flags & AssetManifest.LINEAR_FILTER) != 0)? TextureFilter.Linear : TextureFilter.Nearest;
 	}
 }
@@ -0,0 +1,92 @@
+package com.jbs.swipe;
+
+/**
+ * Reads the big-endian values written by a ByteWriter from an array of bytes. The values are decoded by hand,
+ * as the GWT backend has no DataInputStream.
+ */
+public final class ByteReader {
+	
+	private final byte[] bytes;
+	private final int end;
+	private int position;
+	
+	public ByteReader(byte[] bytes) {
+		this(bytes, 0, bytes.length);
+	}
+	
+	/** Read the length bytes of the array from the offset. */
+	public ByteReader(byte[] bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.position = offset;
+		this.end = offset + length;
+	}
+	
+	public int readByte() {
+		require(1);
+		return bytes[position ++];
+	}
+	
+	/** @return the next two bytes as an unsigned short. */
+	public int readShort() {
+		require(2);
+		final int high = bytes[position ++] & 0xff, low = bytes[position ++] & 0xff;
+		return (high << 8) | low;
+	}
+	
+	public int readInt() {
+		return (readShort() << 16) | readShort();
+	}
+	
+	public long readLong() {
+		return ((long) readInt() << 32) | (readInt() & 0xffffffffL);
+	}
+	
+	public float readFloat() {
+		return Float.intBitsToFloat(readInt());
+	}
+	
+	public String readString() {
+		final int length = readShort();
+		require(length);
+		final StringBuilder text = new StringBuilder(length);
+		for (int i = position, stringEnd = position + length; i < stringEnd; i ++) {
+			final int b = bytes[i] & 0xff;
+			if (b < 0x80)
+				text.append((char) b);
+			else if (b < 0xe0)
+				text.append((char) (((b & 0x1f) << 6) | (bytes[++ i] & 0x3f)));
+			else {
+				final int middle = bytes[++ i] & 0x3f;
+				text.append((char) (((b & 0x0f) << 12) | (middle << 6) | (bytes[++ i] & 0x3f)));
+			}
+		}
+		position += length;
+		return text.toString();
+	}
+	
+	/** Skip over the number of bytes. */
+	public void skip(int length) {
+		require(length);
+		position += length;
+	}
+	
+	/** @return the index of the next byte to be read. */
+	public int position() {
+		return position;
+	}
+	
+	/** @return the number of bytes left to read. */
+	public int remaining() {
+		return end - position;
+	}
+	
+	/** @return the array the bytes are read from. */
+	public byte[] bytes() {
+		return bytes;
+	}
+	
+	private void require(int length) {
+		if (length > end - position)
+			throw new RuntimeException("Error in ByteReader : Cannot read " + length + " bytes, only " + (end - position) + " remain.");
+	}
+}
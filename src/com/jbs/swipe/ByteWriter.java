@@ -0,0 +1,108 @@
+package com.jbs.swipe;
+
+import com.badlogic.gdx.utils.ByteArray;
+
+/**
+ * Writes big-endian values to a growable array of bytes, in the format read by ByteReader. The Game's binary files
+ * are built in memory with it and written in one go, as the GWT backend has no DataOutputStream.
+ */
+public final class ByteWriter {
+	
+	private final ByteArray bytes;
+	
+	public ByteWriter() {
+		this(64);
+	}
+	
+	public ByteWriter(int capacity) {
+		this.bytes = new ByteArray(capacity);
+	}
+	
+	public ByteWriter writeByte(int value) {
+		bytes.add((byte) value);
+		return this;
+	}
+	
+	public ByteWriter writeShort(int value) {
+		bytes.add((byte) (value >>> 8));
+		bytes.add((byte) value);
+		return this;
+	}
+	
+	public ByteWriter writeInt(int value) {
+		writeShort(value >>> 16);
+		writeShort(value);
+		return this;
+	}
+	
+	public ByteWriter writeLong(long value) {
+		writeInt((int) (value >>> 32));
+		writeInt((int) value);
+		return this;
+	}
+	
+	public ByteWriter writeFloat(float value) {
+		return writeInt(Float.floatToIntBits(value));
+	}
+	
+	/** Write the string as its length in bytes followed by its UTF-8 bytes. */
+	public ByteWriter writeString(String text) {
+		final int lengthIndex = bytes.size;
+		writeShort(0);
+		for (int i = 0; i != text.length(); i ++) {
+			final char c = text.charAt(i);
+			if (c < 0x80)
+				bytes.add((byte) c);
+			else if (c < 0x800) {
+				bytes.add((byte) (0xc0 | (c >> 6)));
+				bytes.add((byte) (0x80 | (c & 0x3f)));
+			} else {
+				bytes.add((byte) (0xe0 | (c >> 12)));
+				bytes.add((byte) (0x80 | ((c >> 6) & 0x3f)));
+				bytes.add((byte) (0x80 | (c & 0x3f)));
+			}
+		}
+		// Go back and fill in the length, now it is known.
+		final int length = bytes.size - lengthIndex - 2;
+		bytes.set(lengthIndex, (byte) (length >>> 8));
+		bytes.set(lengthIndex + 1, (byte) length);
+		return this;
+	}
+	
+	/** Overwrite the int at the index with the value. */
+	public void setInt(int index, int value) {
+		bytes.set(index, (byte) (value >>> 24));
+		bytes.set(index + 1, (byte) (value >>> 16));
+		bytes.set(index + 2, (byte) (value >>> 8));
+		bytes.set(index + 3, (byte) value);
+	}
+	
+	/** @return the checksum of the bytes written since the index. */
+	public int checksumSince(int index) {
+		return checksum(bytes.items, index, bytes.size - index);
+	}
+	
+	/** @return the number of bytes written. */
+	public int size() {
+		return bytes.size;
+	}
+	
+	public void clear() {
+		bytes.clear();
+	}
+	
+	/** @return a copy of the bytes written. */
+	public byte[] toArray() {
+		return bytes.toArray();
+	}
+	
+	/** @return the 32-bit FNV-1a hash of the bytes, used to detect files that were only partly written. */
+	public static int checksum(byte[] bytes, int offset, int length) {
+		int hash = 0x811c9dc5;
+		for (int i = offset, end = offset + length; i != end; i ++) {
+			hash ^= bytes[i] & 0xff;
+			hash *= 0x01000193;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,17 @@
+package com.jbs.swipe;
+
+/** A source of time for the GameClock. Replaced by a simulated source when the Game is driven
+ * without real time passing. */
+public interface Clock {
+	
+	/** The Clock that reads the system's monotonic timer. */
+	public static final Clock SYSTEM = new Clock() {
+		@Override
+		public long nanoTime() {
+			return System.nanoTime();
+		}
+	};
+	
+	/** @return the current value of the Clock's timer in nanoseconds, only meaningful relative to another reading. */
+	long nanoTime();
+}
@@ -1,5 +1,7 @@
 package com.jbs.swipe;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Random;
 
 import aurelienribon.tweenengine.Tween;
@@ -9,16 +11,16 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.control.Application;
 import com.jbs.framework.io.AudioProxy;
 import com.jbs.framework.rendering.Graphic;
 import com.jbs.framework.rendering.Renderable;
+import com.jbs.swipe.effects.EffectPool;
+import com.jbs.swipe.gui.DigitGlyphs;
 import com.jbs.swipe.gui.GraphicAccessor;
 import com.jbs.swipe.levels.LevelState;
 import com.jbs.swipe.shop.BillingAPI;
@@ -33,6 +35,7 @@ import com.jbs.swipe.states.GameModeSelectionState;
 import com.jbs.swipe.states.LoadingState;
 import com.jbs.swipe.states.MainMenuState;
 import com.jbs.swipe.tiles.SwipeTile;
+import com.jbs.swipe.tiles.SwipeTilePool;
 import com.jbs.swipe.tiles.TileAccessor;
 import com.jbs.swipe.traps.Bomb;
 import com.jbs.swipe.traps.DarkHole;
@@ -40,6 +43,8 @@ import com.jbs.swipe.traps.DarkHole;
 public class Game extends Application {
 	public static Game game;
 	public final boolean IS_STRICT = false;
+	/** True in builds made for developers, which enable the profiler overlay and the session recorder. */
+	public static final boolean IS_DEVELOPER_BUILD = false;
 	
 	private FileHandle
 		PATH_TO_ASSETS,
@@ -48,11 +53,33 @@ public class Game extends Application {
 	protected AssetManager assetManager;
 	protected AudioProxy audioProxy;
 	protected Random random;
+	/** The Game's single source of time, ticked once per frame. */
+	protected final GameClock clock = new GameClock(Clock.SYSTEM);
 	
 	/** The utility for easily creating and updating animations. */
 	private TweenManager tweenManager;
-	/** The interface for saving User data. */
-	private User user;
+	/** The pool of reusable SwipeTiles shared by all the Levels. */
+	private SwipeTilePool tilePool;
+	/** The frame-time instrumentation. */
+	private Profiler profiler;
+	/** The measurement of the latency from a touch to the frame that shows the reaction to it. */
+	private LatencyMonitor latency;
+	/** The recording of the Level being played, so the session can be replayed. */
+	private SessionRecorder recorder;
+	/** The queue of touches, filled by libgdx as they happen and dispatched once per frame. */
+	private TouchInput touchInput;
+	/** The queue that groups the Level's draws by Texture. */
+	private RenderQueue renderQueue;
+	/** The pool of each particle effect file, so effects are not loaded from disk during gameplay. */
+	private final HashMap<String, EffectPool> effectPools = new HashMap<String, EffectPool>();
+	/** The digit regions of each digit Texture, shared by the Fonts that draw with it. */
+	private final HashMap<String, DigitGlyphs> digitGlyphs = new HashMap<String, DigitGlyphs>();
+	/** The write-behind store that User data and settings are saved to. */
+	private PreferenceStore preferenceStore;
+	/** The table of player profiles, each with its own User data. */
+	private Profiles profiles;
+	/** The User played as instead of the active profile's, or null. */
+	private User userOverride;
 	/** The interface for saving Game settings. */
 	private Settings settings;
 	/** The interface to charge the User money. */
@@ -65,13 +92,13 @@ public class Game extends Application {
 	private GameModeSelectionState gameModeSelectionState;
 	private ShopState shopState;
 	
-	private long
-		lastRenderTime;
 	private boolean
 		created = false; // True when the Game's resources have been initialized.
 	
 	public Game(BillingAPI billingAPI, int virtualWidth, int virtualHeight) {
 		super(virtualWidth, virtualHeight);
+		// Time the startup from as early as the Game exists.
+		StartupTrace.start();
 		game=this; //game should be a singleton so we don't have to pass it around everywhere.
 		this.billingAPI = billingAPI;
 		if (IS_STRICT)
@@ -104,7 +131,9 @@ public class Game extends Application {
 	}
 	
 	/** Retrieve the Texture from the Game's AssetManager. Throws RuntimeException if
-	 * the Game has not yet been created with it's create() method. */
+	 * the Game has not yet been created with it's create() method. The region is shared
+	 * by every request for the Texture, so it must not be modified. Code that retrieves
+	 * the Texture every frame should keep the handle from Assets.textureHandle() instead. */
 	public TextureRegion getTexture(String textureSource) {
 		if (this.IS_STRICT)
 			// Assert that the Game has been created with it's create() method.
@@ -116,12 +145,38 @@ public class Game extends Application {
 			else if (!textureSource.extension().equals("png") && !textureSource.extension().equals("jpg"))
 				throw new RuntimeException("Error in Game.getTexture() : texture does not have a .png or .jpg file extension.");
 		*/
-		// Retrieve the texture from the Game's assets.
-		return new TextureRegion(Assets.get(textureSource,Texture.class));
+		// Retrieve the texture from the Game's assets, Textures that have been packed into an atlas resolve to their region of the atlas.
+		return Assets.texture(Assets.textureHandle(textureSource));
+	}
+	
+	/** @return the DigitGlyphs sliced from the digit Texture, created the first time they are requested. */
+	public final DigitGlyphs digitGlyphs(String textureSource) {
+		DigitGlyphs glyphs = digitGlyphs.get(textureSource);
+		if (glyphs == null) {
+			glyphs = new DigitGlyphs(getTexture(textureSource));
+			digitGlyphs.put(textureSource, glyphs);
+		}
+		return glyphs;
+	}
+	
+	/** @return the pool of the particle effect in the source file, created the first time it is requested.
+	 * @param imagesDirectory The directory holding the effect's images. */
+	public final EffectPool effectPool(String source, String imagesDirectory) {
+		EffectPool pool = effectPools.get(source);
+		if (pool == null) {
+			pool = new EffectPool(source, imagesDirectory);
+			effectPools.put(source, pool);
+		}
+		return pool;
+	}
+	
+	/** @return the pools of all the particle effects that have been requested. */
+	public final Collection<EffectPool> effectPools() {
+		return effectPools.values();
 	}
 	
 	public static TextureRegion getTextureFromAtlas(String texture){
-		return Assets.get("assets/output/texturepack_0.txt",TextureAtlas.class).findRegion(texture);
+		return Assets.getAtlasRegion(texture);
 	}
 	
 	/** @return the Texture if it has been loaded from the Game's assets folder. */
@@ -140,6 +195,21 @@ public class Game extends Application {
 		return this.random;
 	}
 	
+	/** Reseed the Game's psuedo-random number generator so the Game plays out the same way every time. */
+	public final void setRandomSeed(long seed) {
+		this.random.setSeed(seed);
+	}
+	
+	/** @return the Game's clock. Everything that depends on time reads it instead of the system timers. */
+	public final GameClock clock() {
+		return this.clock;
+	}
+	
+	/** Set the source of time that the Game's clock samples each frame. */
+	public final void setClock(Clock newSource) {
+		this.clock.setSource(newSource);
+	}
+	
 	/** Set the Game's state to it's paused state and stop the background music.
 	 * Throws a RuntimeException if the Game is already in it's PausedState. */
 	@Override
@@ -147,6 +217,18 @@ public class Game extends Application {
 		// If we're in a Level, pause it.
 		if (this.applicationState() instanceof LevelState && this.isCreated())
 			((LevelState) applicationState()).pause();
+		// The Game may be killed while paused, so write any unsaved changes now.
+		if (this.isCreated()) {
+			preferenceStore.flush();
+			profiles.save();
+			// The GWT backend has no local storage to write the measurements to.
+			if (Gdx.files.isLocalStorageAvailable()) {
+				if (latency.samples() != 0)
+					latency.dumpTo(Gdx.files.local(LatencyMonitor.DUMP_FILE));
+				if (recorder.frames() != 0)
+					recorder.writeTo(Gdx.files.local(SessionRecorder.LOG_FILE));
+			}
+		}
 	}
 	
 	/** Start the Level and play the Game's background music.
@@ -165,18 +247,42 @@ public class Game extends Application {
 		settings.setMuted(audio().isMuted());
 		
 		settings().save();
-		user().save();
+		profiles.dispose();
+		preferenceStore.dispose();
 		
 		billingAPI.destroy();
 	}
 	
 	@Override
 	public void render() {
+		clock.tick();
+		// Make the touches received since the last frame this frame's touches.
+		touchInput.beginFrame();
+		profiler.beginFrame();
+		profiler.updateWith(input);
+		recorder.beginFrame();
+		
 		super.render();
+		// The frame has been submitted, so the reactions to touches drawn in it are on their way to the screen.
+		latency.endFrame(clock.source().nanoTime());
+		
+		// Write the User's and settings' changes in the background once they settle.
+		preferenceStore.update();
+		
+		// Once the LoadingState has finished, stream the remaining asset groups in the background.
+		if (this.applicationState() != loadingState)
+			Assets.update();
+		// The first frame of the MainMenuState is the first the user can interact with.
+		if (this.applicationState() == mainMenuState)
+			StartupTrace.firstInteractiveFrame();
 		
-		final long currentTime = System.currentTimeMillis();
-		this.tweenManager().update(currentTime - lastRenderTime);
-		this.lastRenderTime = currentTime;
+		profiler.begin(Profiler.TWEENS);
+		// Tweens animate menus as well as Tiles, so they keep running while game time is paused.
+		this.tweenManager().update(clock.animationDelta());
+		profiler.end(Profiler.TWEENS);
+		
+		recorder.endFrame(input, touchInput.events());
+		profiler.endFrame();
 	}
 	
 	@Override
@@ -186,16 +292,28 @@ public class Game extends Application {
 		if (created)
 			throw new RuntimeException("Game already created!?");
 		
+		StartupTrace.begin("Game.create");
+		// Receive touches from libgdx as they happen rather than polling for them each frame.
+		touchInput = new TouchInput(screenWidth(), screenHeight());
+		touchInput.install();
+		StartupTrace.begin("initializeFileHandles");
 		initializeFileHandles();
+		StartupTrace.end("initializeFileHandles");
+		StartupTrace.begin("initializeAssets");
 		initializeAssets();
+		StartupTrace.end("initializeAssets");
+		StartupTrace.begin("initializeStates");
 		initializeStates();
+		StartupTrace.end("initializeStates");
+		StartupTrace.end("Game.create");
 		
 		// Set our Game's state to the loading state.
 		setState(loadingState);
 		
 		// Mark the Game as created.
 		created = true;
-		lastRenderTime = System.currentTimeMillis();
+		// Start the first frame's time from now rather than from when the Game was constructed.
+		clock.setSource(clock.source());
 	}
 	
 	public void beginIODChange(SpriteBatch batch, float deltaIOD) { }
@@ -205,6 +323,8 @@ public class Game extends Application {
 		if (this.applicationState() instanceof ShopState)
 			throw new RuntimeException("Already in ShopState!");
 		
+		// The shop's assets may still be streaming, wait for them rather than show a half loaded shop.
+		Assets.finishLoading(Assets.SHOP);
 		setState(shopState());
 	}
 	
@@ -213,9 +333,60 @@ public class Game extends Application {
 		return this.tweenManager;
 	}
 	
-	/** @return the interface for saving User data. */
+	/** @return the Game's frame-time instrumentation. */
+	public final Profiler profiler() {
+		return this.profiler;
+	}
+	
+	/** @return the Game's measurement of the latency from a touch to the frame that shows the reaction to it. */
+	public final LatencyMonitor latency() {
+		return this.latency;
+	}
+	
+	/** @return the recording of the Level being played. */
+	public final SessionRecorder recorder() {
+		return this.recorder;
+	}
+	
+	/** Replace the Game's latency measurement, such as with one that measures a script in simulated time. */
+	public final void setLatency(LatencyMonitor newLatency) {
+		this.latency = newLatency;
+	}
+	
+	/** @return the Game's queue of touches. Everything that reacts to touches reads them from it. */
+	public final TouchInput touchInput() {
+		return this.touchInput;
+	}
+	
+	/** Replace the Game's queue of touches, such as with one fed by a script. */
+	public final void setTouchInput(TouchInput newTouchInput) {
+		this.touchInput = newTouchInput;
+	}
+	
+	/** @return the queue that submits Renderables to the SpriteBatch grouped by Texture. */
+	public final RenderQueue renderQueue() {
+		return this.renderQueue;
+	}
+	
+	/** @return the pool of reusable SwipeTiles. */
+	public final SwipeTilePool tilePool() {
+		return this.tilePool;
+	}
+	
+	/** @return the interface for saving the active profile's User data, or the User set with setUser(). */
 	public final User user() {
-		return this.user;
+		return (userOverride != null)? userOverride : profiles.activeUser();
+	}
+	
+	/** Play as the User instead of the active profile's, such as a SimulatedUser so that headless runs of a Level
+	 * do not change the player's save. Set null to play as the active profile's User again. */
+	public final void setUser(User newUser) {
+		this.userOverride = newUser;
+	}
+	
+	/** @return the table of player profiles. */
+	public final Profiles profiles() {
+		return this.profiles;
 	}
 	
 	/* @return the interface for Game settings. */
@@ -273,15 +444,22 @@ public class Game extends Application {
 		Tween.registerAccessor(Vector2.class, new Vector2Accessor());
 		Tween.setWaypointsLimit(2);
 		
-		final int DEFAULT_USER_ID = 0;
+		tilePool = new SwipeTilePool(this);
+		profiler = new Profiler();
+		latency = new LatencyMonitor();
+		recorder = new SessionRecorder(this);
+		renderQueue = new RenderQueue(this);
+		
 		final Preferences prefs = Gdx.app.getPreferences("prefs");
-		user = new User(DEFAULT_USER_ID, prefs);
-		settings = new Settings(prefs);
+		preferenceStore = new PreferenceStore(prefs);
+		// The profiles' Users are loaded the first time they are used.
+		profiles = new Profiles(preferenceStore);
+		settings = new Settings(preferenceStore);
 		
 		
 		
 		settings.optIntoTutorial();
-		settings.preferences().putInteger(Settings.LAUNCHES, 0);
+		settings.store().putInteger(Settings.LAUNCHES, 0);
 		
 		
 		
@@ -322,8 +500,8 @@ public class Game extends Application {
 				protected void exitMainMenu() {
 					settings.addLaunch();
 					if (settings.numberOfLaunches() == 1) {
-						user.setStock(new Bomb(Game.this), 10);
-						user.setStock(new DarkHole(Game.this), 5);
+						user().setStock(new Bomb(Game.this), 10);
+						user().setStock(new DarkHole(Game.this), 5);
 					}
 					
 					setState(gameModeSelectionState());
@@ -0,0 +1,160 @@
+package com.jbs.swipe;
+
+public class GameClock {
+	
+	/** The length of a fixed simulation step in milliseconds. */
+	public static final float STEP = 1000f / 60f;
+	/** The most steps simulated in one frame. Time beyond that is dropped so a long stall does not
+	 * cause a burst of catch-up steps. */
+	public static final int MAX_STEPS_PER_FRAME = 5;
+	
+	/* The source of time, sampled once per frame. */
+	private Clock source;
+	private long lastSample;
+	
+	private long
+		realTime, // The nanoseconds that have passed since the GameClock was created.
+		time; // The scaled nanoseconds that have passed while the GameClock was not paused.
+	private float
+		realDelta, // The length of the last frame in milliseconds.
+		delta, // The scaled length of the last frame in milliseconds, zero while paused.
+		timeScale = 1,
+		accumulator; // The game time not yet consumed by a fixed step, in milliseconds.
+	private int steps; // The number of fixed steps to simulate this frame.
+	private boolean paused = false;
+	
+	/** Create the Game's single source of time. The GameClock reads its source once per frame when it is
+	 * ticked, everything that depends on time reads the GameClock instead of the system timers so the
+	 * whole frame sees the same time. */
+	public GameClock(Clock source) {
+		setSource(source);
+	}
+	
+	/** Sample the source and advance the GameClock. Called once at the start of every frame. */
+	public void tick() {
+		final long sample = source.nanoTime();
+		// Never let time run backwards, even if the source does.
+		final long elapsed = Math.max(0, sample - lastSample);
+		lastSample = sample;
+		
+		realTime += elapsed;
+		realDelta = elapsed * 1E-6f;
+		
+		if (paused)
+			delta = 0;
+		else {
+			final long scaledElapsed = (long) (elapsed * timeScale);
+			time += scaledElapsed;
+			delta = scaledElapsed * 1E-6f;
+		}
+		
+		// Divide the game time that has passed into fixed steps, the remainder carries over to the next frame.
+		accumulator += delta;
+		steps = (int) (accumulator / STEP);
+		if (steps > MAX_STEPS_PER_FRAME) {
+			steps = MAX_STEPS_PER_FRAME;
+			accumulator = 0;
+		} else
+			accumulator -= steps * STEP;
+	}
+	
+	/** Set the source of time. The GameClock carries on from its current time rather than jumping to the new source's. */
+	public void setSource(Clock newSource) {
+		if (newSource == null)
+			throw new RuntimeException("Clock source cannot be null.");
+		this.source = newSource;
+		this.lastSample = newSource.nanoTime();
+	}
+	
+	/** @return the source of time. */
+	public Clock source() {
+		return source;
+	}
+	
+	/** @return the source's reading when the GameClock was last ticked. */
+	public long lastSample() {
+		return lastSample;
+	}
+	
+	/** @return the game time (in milliseconds) not yet consumed by a fixed step. */
+	public float accumulator() {
+		return accumulator;
+	}
+	
+	/** Set the game time and the time not yet consumed by a fixed step, so a recorded session can be replayed
+	 * from the point it was recorded at. */
+	public void restore(long nanoTime, float accumulator) {
+		this.time = nanoTime;
+		this.accumulator = accumulator;
+	}
+	
+	/** Stop game time. Real time, and so menu animations, keeps running. */
+	public void pause() {
+		paused = true;
+	}
+	
+	/** Continue game time from where it was paused. */
+	public void resume() {
+		paused = false;
+	}
+	
+	/** @return true if game time is stopped. */
+	public boolean isPaused() {
+		return paused;
+	}
+	
+	/** Set the speed of game time relative to real time, 1 is normal speed. */
+	public void setTimeScale(float newTimeScale) {
+		if (newTimeScale < 0)
+			throw new RuntimeException("Time scale must be >= 0");
+		this.timeScale = newTimeScale;
+	}
+	
+	/** @return the speed of game time relative to real time. */
+	public float timeScale() {
+		return timeScale;
+	}
+	
+	/** @return the game time in nanoseconds, as of the start of the frame. Does not advance while paused. */
+	public long nanoTime() {
+		return time;
+	}
+	
+	/** @return the game time in milliseconds, as of the start of the frame. Does not advance while paused. */
+	public long time() {
+		return time / 1000000L;
+	}
+	
+	/** @return the time in milliseconds since the GameClock was created, including time spent paused. */
+	public long realTime() {
+		return realTime / 1000000L;
+	}
+	
+	/** @return the scaled length of the current frame in milliseconds, zero while paused. */
+	public float delta() {
+		return delta;
+	}
+	
+	/** @return the unscaled length of the current frame in milliseconds, including time spent paused. */
+	public float realDelta() {
+		return realDelta;
+	}
+	
+	/** @return the number of fixed steps that simulations should advance by this frame. Zero while paused,
+	 * and may be zero on frames shorter than a step. */
+	public int steps() {
+		return steps;
+	}
+	
+	/** @return how far (0 to 1) game time is between the last fixed step and the next one. Used to
+	 * render simulated objects between their last two stepped positions. */
+	public float interpolation() {
+		return accumulator / STEP;
+	}
+	
+	/** @return the length of the current frame in milliseconds for animations that keep playing while the
+	 * game is paused, such as menus. Scaled, but not paused. */
+	public float animationDelta() {
+		return realDelta * timeScale;
+	}
+}
@@ -0,0 +1,254 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Measures the latency from a touch to the frame that shows the SwipeTile's reaction to it. Every TouchEvent is
+ * stamped from the Game's clock source when it arrives, the Swipe keeps the time of the event that expired it, and the
+ * SwipeTile hands that time to setState() as it turns its arrow green (and starts shrinking) or turns red. The first
+ * time the SwipeTile is drawn after that it reports the feedback, and at the end of the frame every feedback drawn
+ * in it is measured against the end of the frame's rendering, when the frame is submitted.
+ *
+ * Latencies are kept in a histogram per Level and kind of feedback, and the last HISTORY are kept for CSV dumps.
+ */
+public final class LatencyMonitor {
+	
+	/** The kinds of feedback measured. */
+	public static final int
+		CORRECT_SWIPE = 0, // The arrow turns green and the SwipeTile starts to shrink.
+		INCORRECT_SWIPE = 1; // The SwipeTile turns red.
+	
+	public static final String[] KIND_NAMES = {
+		"correct", "incorrect"
+	};
+	
+	/** The width of each bucket of the histograms in milliseconds. */
+	public static final int BUCKET_MS = 4;
+	/** The number of buckets in each histogram. The last bucket holds every latency beyond the others. */
+	public static final int BUCKETS = 32;
+	/** The number of latencies kept for CSV dumps. */
+	public static final int HISTORY = 600;
+	/** The file (relative to the local storage) that the latencies are written to when the Game is paused. */
+	public static final String DUMP_FILE = "latency.csv";
+	
+	/* The most feedback that can be measured in one frame, the rest are dropped. */
+	private static final int MAX_PENDING = 64;
+	private static final int KINDS = KIND_NAMES.length;
+	
+	/* The feedback drawn this frame, waiting for the frame to be submitted. */
+	private final int[] pendingKinds = new int[MAX_PENDING];
+	private final long[] pendingInputTimes = new long[MAX_PENDING];
+	private int pending;
+	
+	/* The histograms of each Level, by kind. */
+	private final HashMap<String, Histogram[]> histograms = new HashMap<String, Histogram[]>();
+	private final ArrayList<String> levelNames = new ArrayList<String>();
+	private String level = "none";
+	private int levelId = -1;
+	private Histogram[] levelHistograms;
+	
+	/* Ring buffers of the last HISTORY latencies. */
+	private final long[] latencyHistory = new long[HISTORY];
+	private final int[]
+		frameHistory = new int[HISTORY],
+		kindHistory = new int[HISTORY],
+		levelHistory = new int[HISTORY];
+	
+	private int
+		frames, // The number of frames ended since the LatencyMonitor was created.
+		samples, // The number of latencies recorded since the LatencyMonitor was created.
+		dropped; // The number of feedback dropped because too many were drawn in one frame.
+	
+	public LatencyMonitor() {
+		setLevel(level);
+	}
+	
+	/** Count the latencies measured from now on against the named Level. Called every frame by the Level. */
+	public void setLevel(String name) {
+		if (name.equals(level) && levelHistograms != null)
+			return;
+		level = name;
+		levelHistograms = histograms.get(name);
+		if (levelHistograms == null) {
+			levelHistograms = new Histogram[KINDS];
+			for (int kind = 0; kind != KINDS; kind ++)
+				levelHistograms[kind] = new Histogram();
+			histograms.put(name, levelHistograms);
+			levelNames.add(name);
+		}
+		levelId = levelNames.indexOf(name);
+	}
+	
+	/**
+	 * Report that feedback to a touch has been drawn this frame.
+	 * @param kind The kind of feedback.
+	 * @param inputTime The nano time the TouchEvent the feedback reacts to arrived.
+	 */
+	public void feedbackDrawn(int kind, long inputTime) {
+		if (pending == MAX_PENDING) {
+			dropped ++;
+			return;
+		}
+		pendingKinds[pending] = kind;
+		pendingInputTimes[pending] = inputTime;
+		pending ++;
+	}
+	
+	/**
+	 * Measure the feedback drawn this frame. Called once the frame has been rendered.
+	 * @param submitTime The nano time the frame was submitted, from the same source as the TouchEvents' times.
+	 */
+	public void endFrame(long submitTime) {
+		for (int i = 0; i != pending; i ++) {
+			final long latency = submitTime - pendingInputTimes[i];
+			if (latency < 0)
+				throw new RuntimeException("Error in LatencyMonitor : A frame was submitted " + (-latency) + "ns before the touch it reacts to, "
+					+ "the touch and the frame were timed by different clocks.");
+			record(pendingKinds[i], latency);
+		}
+		pending = 0;
+		frames ++;
+	}
+	
+	/** Forget every latency measured. */
+	public void reset() {
+		histograms.clear();
+		levelNames.clear();
+		levelHistograms = null;
+		pending = samples = dropped = 0;
+		setLevel(level);
+	}
+	
+	/** @return the number of latencies recorded since the LatencyMonitor was created. */
+	public int samples() {
+		return samples;
+	}
+	
+	/** @return the number of feedback dropped because too many were drawn in one frame. */
+	public int dropped() {
+		return dropped;
+	}
+	
+	/** @return the histogram of the named Level's latencies of the kind of feedback, or null if it has none. */
+	public Histogram histogram(String level, int kind) {
+		final Histogram[] levelHistograms = histograms.get(level);
+		return (levelHistograms == null)? null : levelHistograms[kind];
+	}
+	
+	/** @return the names of the Levels that have latencies, in the order they were first seen. */
+	public ArrayList<String> levels() {
+		return levelNames;
+	}
+	
+	/** Write the last HISTORY latencies to the file as CSV, oldest first. Times are in milliseconds. */
+	public void dumpTo(FileHandle file) {
+		final StringBuilder csv = new StringBuilder();
+		csv.append("frame,level,feedback,latency_ms\n");
+		
+		final int recorded = Math.min(samples, HISTORY);
+		for (int sample = samples - recorded; sample != samples; sample ++) {
+			final int slot = sample % HISTORY;
+			csv.append(frameHistory[slot]).append(',')
+				.append(levelNames.get(levelHistory[slot])).append(',')
+				.append(KIND_NAMES[kindHistory[slot]]).append(',')
+				.append(latencyHistory[slot] * 1E-6f).append('\n');
+		}
+		
+		file.writeString(csv.toString(), false);
+		System.out.println("LatencyMonitor wrote " + recorded + " latencies to " + file.path());
+	}
+	
+	/** @return a summary of each Level's histograms. */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Input latency over ").append(samples).append(" swipes");
+		if (dropped != 0)
+			builder.append(" (").append(dropped).append(" dropped)");
+		for (int i = 0; i != levelNames.size(); i ++) {
+			final Histogram[] levelHistograms = histograms.get(levelNames.get(i));
+			for (int kind = 0; kind != KINDS; kind ++)
+				if (levelHistograms[kind].count() != 0)
+					builder.append('\n').append(levelNames.get(i)).append(' ').append(KIND_NAMES[kind])
+						.append(" : ").append(levelHistograms[kind]);
+		}
+		return builder.toString();
+	}
+	
+	private void record(int kind, long latency) {
+		levelHistograms[kind].add(latency);
+		
+		final int slot = samples % HISTORY;
+		latencyHistory[slot] = latency;
+		frameHistory[slot] = frames;
+		kindHistory[slot] = kind;
+		levelHistory[slot] = levelId;
+		samples ++;
+	}
+	
+	/** The distribution of one kind of feedback's latencies, in buckets of BUCKET_MS. */
+	public static final class Histogram {
+		
+		private final int[] buckets = new int[BUCKETS];
+		private int count;
+		private long totalLatency, maxLatency;
+		
+		private Histogram() { }
+		
+		void add(long latency) {
+			buckets[Math.min(BUCKETS - 1, (int) (latency / (BUCKET_MS * 1000000L)))] ++;
+			count ++;
+			totalLatency += latency;
+			maxLatency = Math.max(maxLatency, latency);
+		}
+		
+		/** @return the number of latencies in the histogram. */
+		public int count() {
+			return count;
+		}
+		
+		/** @return the number of latencies in the bucket. */
+		public int bucket(int bucket) {
+			return buckets[bucket];
+		}
+		
+		/** @return the mean latency in milliseconds. */
+		public float mean() {
+			return (count == 0)? 0 : totalLatency * 1E-6f / count;
+		}
+		
+		/** @return the longest latency in milliseconds. */
+		public float max() {
+			return maxLatency * 1E-6f;
+		}
+		
+		/** @return the upper edge (in milliseconds) of the bucket that holds the percentile, or max() if it is the last.
+		 * @param percentile The percentile between 0 and 1. */
+		public float percentile(float percentile) {
+			if (count == 0)
+				return 0;
+			final int rank = Math.min(count - 1, (int) (percentile * count));
+			int seen = 0;
+			for (int bucket = 0; bucket != BUCKETS - 1; bucket ++) {
+				seen += buckets[bucket];
+				if (seen > rank)
+					return (bucket + 1) * BUCKET_MS;
+			}
+			return max();
+		}
+		
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append(count).append(" samples, mean ").append(mean()).append("ms, p50 ").append(percentile(.5f))
+				.append("ms, p90 ").append(percentile(.9f)).append("ms, p99 ").append(percentile(.99f))
+				.append("ms, max ").append(max()).append("ms\n ");
+			for (int bucket = 0; bucket != BUCKETS; bucket ++)
+				builder.append(' ').append(buckets[bucket]);
+			return builder.toString();
+		}
+	}
+}
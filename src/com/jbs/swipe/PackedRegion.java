@@ -0,0 +1,22 @@
+package com.jbs.swipe;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * A region of the packed atlas that stands in for a standalone Texture. It remembers the path of
+ * the image it was packed from, so the RenderQueue can tell how many binds packing has saved.
+ */
+public class PackedRegion extends TextureRegion {
+	
+	private final String source;
+	
+	public PackedRegion(TextureRegion region, String source) {
+		super(region);
+		this.source = source;
+	}
+	
+	/** @return the path of the standalone image the region was packed from. */
+	public final String source() {
+		return source;
+	}
+}
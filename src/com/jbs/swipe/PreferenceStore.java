@@ -0,0 +1,165 @@
+package com.jbs.swipe;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * A write-behind store in front of Preferences. Values that are put are kept in memory and marked dirty, and the
+ * dirty values are written to the Preferences in one batch once they have been left unchanged for FLUSH_DELAY, or
+ * when flush() is called. The Preferences are flushed to disk on a background thread, so changing a value during
+ * gameplay never waits on storage.
+ *
+ * The dirty values are only copied into the Preferences while no background flush is running, so the Preferences
+ * are never modified while they are written.
+ */
+public class PreferenceStore {
+	
+	/** How long (in milliseconds) the values must be left unchanged before they are written, so a burst of changes is written once. */
+	public static final long FLUSH_DELAY = 1000;
+	
+	private final Preferences preferences;
+	/* The values that have been put and not yet copied into the Preferences. */
+	private final HashMap<String, Object> dirtyValues = new HashMap<String, Object>();
+	/* Runs the flushes off the render thread. On the GWT backend libgdx runs its tasks immediately instead. */
+	private final AsyncExecutor executor = new AsyncExecutor(1);
+	private final AsyncTask<Void> flushTask;
+	/* The background flush in progress, or null. */
+	private AsyncResult<Void> pendingFlush;
+	/* The nano time a value was last put. */
+	private long lastChangeTime;
+	
+	private int
+		flushes, // The number of batches written to disk.
+		valuesWritten; // The number of values written in those batches.
+	
+	public PreferenceStore(final Preferences preferences) {
+		this.preferences = preferences;
+		this.flushTask = new AsyncTask<Void>() {
+			@Override
+			public Void call() throws Exception {
+				preferences.flush();
+				return null;
+			}
+		};
+	}
+	
+	public int getInteger(String key) {
+		final Object value = dirtyValues.get(key);
+		return (value == null)? preferences.getInteger(key) : (Integer) value;
+	}
+	
+	public boolean getBoolean(String key) {
+		final Object value = dirtyValues.get(key);
+		return (value == null)? preferences.getBoolean(key) : (Boolean) value;
+	}
+	
+	public String getString(String key, String defaultValue) {
+		final Object value = dirtyValues.get(key);
+		return (value == null)? preferences.getString(key, defaultValue) : (String) value;
+	}
+	
+	public void putInteger(String key, int value) {
+		put(key, value);
+	}
+	
+	public void putBoolean(String key, boolean value) {
+		put(key, value);
+	}
+	
+	public void putString(String key, String value) {
+		put(key, value);
+	}
+	
+	/** Write the dirty values in the background if they have been left unchanged for FLUSH_DELAY. Called every frame. */
+	public void update() {
+		if (dirtyValues.isEmpty() || isFlushing())
+			return;
+		if ((System.nanoTime() - lastChangeTime) / 1000000 < FLUSH_DELAY)
+			return;
+		
+		copyDirtyValues();
+		pendingFlush = executor.submit(flushTask);
+	}
+	
+	/** Write every dirty value to disk now, waiting for any background flush to finish first. */
+	public void flush() {
+		finishPendingFlush();
+		if (dirtyValues.isEmpty())
+			return;
+		
+		copyDirtyValues();
+		preferences.flush();
+	}
+	
+	/** Flush the store and stop the background thread. The store must not be used after it is disposed. */
+	public void dispose() {
+		flush();
+		executor.dispose();
+	}
+	
+	/** @return true if there are values that have not been written to disk. */
+	public boolean isDirty() {
+		return !dirtyValues.isEmpty() || isFlushing();
+	}
+	
+	/** @return the number of batches written to disk. */
+	public int flushes() {
+		return flushes;
+	}
+	
+	/** @return the number of values written to disk. A value changed many times between flushes is only written once. */
+	public int valuesWritten() {
+		return valuesWritten;
+	}
+	
+	/** @return the Preferences that the values are written to. */
+	public Preferences preferences() {
+		return preferences;
+	}
+	
+	private void put(String key, Object value) {
+		dirtyValues.put(key, value);
+		lastChangeTime = System.nanoTime();
+	}
+	
+	private boolean isFlushing() {
+		if (pendingFlush != null && pendingFlush.isDone())
+			finishPendingFlush();
+		return pendingFlush != null;
+	}
+	
+	/** Wait for the background flush to finish, rethrowing anything it threw. */
+	private void finishPendingFlush() {
+		if (pendingFlush == null)
+			return;
+		try {
+			pendingFlush.get();
+		} finally {
+			pendingFlush = null;
+		}
+	}
+	
+	/** Copy the dirty values into the Preferences. Must not be called while a background flush is running. */
+	private void copyDirtyValues() {
+		for (Map.Entry<String, Object> entry : dirtyValues.entrySet()) {
+			final Object value = entry.getValue();
+			if (value instanceof Integer)
+				preferences.putInteger(entry.getKey(), (Integer) value);
+			else if (value instanceof Boolean)
+				preferences.putBoolean(entry.getKey(), (Boolean) value);
+			else if (value instanceof String)
+				preferences.putString(entry.getKey(), (String) value);
+			else
+				throw new RuntimeException("PreferenceStore cannot write " + value + " to \"" + entry.getKey() + "\".");
+		}
+		
+		flushes ++;
+		valuesWritten += dirtyValues.size();
+		dirtyValues.clear();
+	}
+}
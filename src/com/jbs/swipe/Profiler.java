@@ -0,0 +1,220 @@
+package com.jbs.swipe;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.files.FileHandle;
+import com.jbs.framework.io.InputProxy;
+
+public final class Profiler {
+	
+	/** The IDs of the timed sections of a frame. */
+	public static final int
+		RENDER = 0, // All of Game.render(), the CPU time of the whole frame.
+		TWEENS = 1, // TweenManager.update().
+		TOUCH = 2, // The Level's TouchManager.
+		BUTTONS = 3, // The Level's pause and mute Buttons.
+		LEVEL = 4, // The Level's Tiles and Rows.
+		SPAWNERS = 5, // The Level's Trap spawners.
+		LEVEL_RENDER = 6; // LevelState.renderTo().
+	
+	public static final String[] SECTION_NAMES = {
+		"render", "tweens", "touch", "buttons", "level", "spawners", "level_render"
+	};
+	
+	/** The number of frames kept for percentiles and CSV dumps. */
+	public static final int HISTORY = 600;
+	/** The number of touches that toggle the overlay when they are all down at once. */
+	public static final int TOGGLE_TOUCHES = 4;
+	/** The file (relative to the local storage) that the history is written to when the overlay is hidden. */
+	public static final String DUMP_FILE = "profile.csv";
+	
+	private static final int SECTIONS = SECTION_NAMES.length;
+	
+	/* The nano time each section was last started, and the time spent in each section this frame. */
+	private final long[] sectionStart = new long[SECTIONS], sectionTime = new long[SECTIONS];
+	
+	/* Ring buffers of the last HISTORY frames. Section times are stored as (frame * SECTIONS + section). */
+	private final long[]
+		frameTimeHistory = new long[HISTORY],
+		sectionHistory = new long[HISTORY * SECTIONS];
+	private final int[] gcHistory = new int[HISTORY], drawCallHistory = new int[HISTORY], bindsSavedHistory = new int[HISTORY];
+	/* Scratch space for sorting the frame times, so percentiles do not allocate. */
+	private final long[] sortedFrameTimes = new long[HISTORY];
+	private boolean sortedFrameTimesAreDirty = true;
+	
+	private int
+		frames, // The number of frames recorded since the Profiler was created.
+		drawCalls, // The number of draw calls reported this frame.
+		bindsSaved, // The number of Texture binds reported as saved by the packed atlas this frame.
+		gcCount; // The number of garbage collections detected since the Profiler was created.
+	private long
+		lastFrameStart, // The nano time the previous frame started.
+		lastHeap; // The size of the Java heap at the end of the previous frame.
+	
+	private boolean
+		visible = false,
+		toggleWasDown = false;
+	
+	/** Begin timing the specified section. */
+	public void begin(int section) {
+		sectionStart[section] = System.nanoTime();
+	}
+	
+	/** Stop timing the specified section and add the time since begin(section) to this frame's total. */
+	public void end(int section) {
+		sectionTime[section] += System.nanoTime() - sectionStart[section];
+	}
+	
+	/** Mark the start of a new frame. Records the time since the last frame began. */
+	public void beginFrame() {
+		final long now = System.nanoTime();
+		if (lastFrameStart != 0)
+			recordFrame(now - lastFrameStart);
+		lastFrameStart = now;
+		
+		begin(RENDER);
+	}
+	
+	/** Mark the end of the frame's work. */
+	public void endFrame() {
+		end(RENDER);
+	}
+	
+	/** Add to the number of draw calls made this frame. */
+	public void addDrawCalls(int count) {
+		drawCalls += count;
+	}
+	
+	/** Add to the number of Texture binds that packing standalone Textures into the atlas saved this frame. */
+	public void addBindsSaved(int count) {
+		bindsSaved += count;
+	}
+	
+	/** Toggle the overlay when TOGGLE_TOUCHES fingers are down or F3 is pressed, in developer builds only. The
+	 * capture is written to DUMP_FILE whenever the overlay is hidden, where there is local storage to write it to. */
+	public void updateWith(InputProxy input) {
+		if (!Game.IS_DEVELOPER_BUILD)
+			return;
+		final boolean toggleIsDown = input.isTouched(TOGGLE_TOUCHES - 1) || Gdx.input.isKeyPressed(Keys.F3);
+		if (toggleIsDown && !toggleWasDown) {
+			visible = !visible;
+			// The GWT backend has no local storage.
+			if (!visible && Gdx.files.isLocalStorageAvailable())
+				dumpTo(Gdx.files.local(DUMP_FILE));
+		}
+		toggleWasDown = toggleIsDown;
+	}
+	
+	/** @return true if the profiler overlay should be rendered. */
+	public boolean isVisible() {
+		return visible;
+	}
+	
+	/** @return the number of frames currently held in the history. */
+	public int recordedFrames() {
+		return Math.min(frames, HISTORY);
+	}
+	
+	/** @return the number of garbage collections detected since the Profiler was created. */
+	public int gcCount() {
+		return gcCount;
+	}
+	
+	/** @return the number of garbage collections detected over the frames in the history. */
+	public int gcCountInHistory() {
+		final int recordedFrames = recordedFrames();
+		int count = 0;
+		for (int i = 0; i != recordedFrames; i ++)
+			count += gcHistory[i];
+		return count;
+	}
+	
+	/** @return the time spent in the specified section during the last recorded frame in milliseconds. */
+	public float lastSectionTime(int section) {
+		if (frames == 0)
+			return 0;
+		return sectionHistory[((frames - 1) % HISTORY) * SECTIONS + section] * 1E-6f;
+	}
+	
+	/** @return the number of draw calls reported during the last recorded frame. */
+	public int lastDrawCalls() {
+		if (frames == 0)
+			return 0;
+		return drawCallHistory[(frames - 1) % HISTORY];
+	}
+	
+	/** @return the number of Texture binds reported as saved during the last recorded frame. */
+	public int lastBindsSaved() {
+		if (frames == 0)
+			return 0;
+		return bindsSavedHistory[(frames - 1) % HISTORY];
+	}
+	
+	/** @return the frame time (in milliseconds) that the specified percent of recorded frames were at or below.
+	 * @param percentile The percentile between 0 and 1. */
+	public float frameTimePercentile(float percentile) {
+		final int recordedFrames = recordedFrames();
+		if (recordedFrames == 0)
+			return 0;
+		
+		if (sortedFrameTimesAreDirty) {
+			System.arraycopy(frameTimeHistory, 0, sortedFrameTimes, 0, recordedFrames);
+			Arrays.sort(sortedFrameTimes, 0, recordedFrames);
+			sortedFrameTimesAreDirty = false;
+		}
+		
+		final int index = Math.min(recordedFrames - 1, (int) (percentile * recordedFrames));
+		return sortedFrameTimes[index] * 1E-6f;
+	}
+	
+	/** Write the recorded history to the file as CSV, oldest frame first. Times are in milliseconds. */
+	public void dumpTo(FileHandle file) {
+		final StringBuilder csv = new StringBuilder();
+		csv.append("frame,frame_ms");
+		for (String name : SECTION_NAMES)
+			csv.append(',').append(name).append("_ms");
+		csv.append(",draw_calls,binds_saved,gc\n");
+		
+		final int recordedFrames = recordedFrames();
+		for (int frame = frames - recordedFrames; frame != frames; frame ++) {
+			final int slot = frame % HISTORY;
+			csv.append(frame).append(',').append(frameTimeHistory[slot] * 1E-6f);
+			for (int section = 0; section != SECTIONS; section ++)
+				csv.append(',').append(sectionHistory[slot * SECTIONS + section] * 1E-6f);
+			csv.append(',').append(drawCallHistory[slot]);
+			csv.append(',').append(bindsSavedHistory[slot]);
+			csv.append(',').append(gcHistory[slot]).append('\n');
+		}
+		
+		file.writeString(csv.toString(), false);
+	}
+	
+	/** Store the last frame's timings in the history and reset the section timers. */
+	private void recordFrame(long frameTime) {
+		final int slot = frames % HISTORY;
+		
+		frameTimeHistory[slot] = frameTime;
+		for (int section = 0; section != SECTIONS; section ++) {
+			sectionHistory[slot * SECTIONS + section] = sectionTime[section];
+			sectionTime[section] = 0;
+		}
+		
+		drawCallHistory[slot] = drawCalls;
+		drawCalls = 0;
+		bindsSavedHistory[slot] = bindsSaved;
+		bindsSaved = 0;
+		
+		// The heap only shrinks when the garbage collector has run.
+		final long heap = Gdx.app.getJavaHeap();
+		final boolean collected = heap < lastHeap;
+		gcHistory[slot] = collected? 1 : 0;
+		if (collected)
+			gcCount ++;
+		lastHeap = heap;
+		
+		frames ++;
+		sortedFrameTimesAreDirty = true;
+	}
+}
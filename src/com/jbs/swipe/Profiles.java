@@ -0,0 +1,132 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * The table of the player profiles kept on the device, so several people can share it. The table only stores how
+ * many profiles there are, their names and which one is active. A profile's User, and the SaveFile behind it, is
+ * not loaded until the profile is first used, so holding many profiles does not slow down startup.
+ *
+ * Every profile shares the one PreferenceStore, so switching profiles never reloads the Preferences. The Users that
+ * have been loaded are kept, so switching back to a profile is free.
+ */
+public final class Profiles {
+	
+	private static final String
+		PROFILE_COUNT = "Profiles:Count",
+		ACTIVE_PROFILE = "Profiles:Active",
+		PROFILE_NAME = ":Name";
+	
+	private final PreferenceStore store;
+	/* The loaded User of each profile by its ID, null until the profile is first used. */
+	private final ArrayList<User> users = new ArrayList<User>();
+	/* The ID of the active profile. */
+	private int active;
+	
+	/** Read the profile table from the store. There is always at least one profile, the
+	 * first has the ID 0 so it keeps the data saved before there were profiles. */
+	public Profiles(PreferenceStore store) {
+		this.store = store;
+		
+		final int count = Math.max(1, store.getInteger(PROFILE_COUNT));
+		for (int i = 0; i != count; i ++)
+			users.add(null);
+		this.active = store.getInteger(ACTIVE_PROFILE);
+		if (!exists(active))
+			active = 0;
+	}
+	
+	/** @return the User of the active profile, loading it if it has not been used yet. */
+	public User activeUser() {
+		return user(active);
+	}
+	
+	/** @return the User of the profile with the ID, loading it if it has not been used yet. */
+	public User user(int ID) {
+		if (!exists(ID))
+			throw new RuntimeException("Error in Profiles.user(int) : There is no profile " + ID + ".");
+		
+		User user = users.get(ID);
+		if (user == null) {
+			user = load(ID);
+			users.set(ID, user);
+		}
+		return user;
+	}
+	
+	/** Make the profile with the ID the active profile. The last active User stays loaded. */
+	public void switchTo(int ID) {
+		if (!exists(ID))
+			throw new RuntimeException("Error in Profiles.switchTo(int) : There is no profile " + ID + ".");
+		
+		active = ID;
+		store.putInteger(ACTIVE_PROFILE, ID);
+	}
+	
+	/** Add a profile to the table without loading it.
+	 * @return the new profile's ID. */
+	public int create(String name) {
+		final int ID = users.size();
+		users.add(null);
+		store.putInteger(PROFILE_COUNT, users.size());
+		rename(ID, name);
+		return ID;
+	}
+	
+	/** Set the name of the profile with the ID. */
+	public void rename(int ID, String name) {
+		if (!exists(ID))
+			throw new RuntimeException("Error in Profiles.rename(int, String) : There is no profile " + ID + ".");
+		store.putString("Profile_" + ID + PROFILE_NAME, name);
+	}
+	
+	/** @return the name of the profile with the ID. */
+	public String nameOf(int ID) {
+		return store.getString("Profile_" + ID + PROFILE_NAME, "Player " + (ID + 1));
+	}
+	
+	/** @return the ID of the active profile. */
+	public int active() {
+		return active;
+	}
+	
+	/** @return the number of profiles. */
+	public int count() {
+		return users.size();
+	}
+	
+	/** @return true if there is a profile with the ID. */
+	public boolean exists(int ID) {
+		return ID >= 0 && ID < users.size();
+	}
+	
+	/** @return true if the User of the profile with the ID has been loaded. */
+	public boolean isLoaded(int ID) {
+		return exists(ID) && users.get(ID) != null;
+	}
+	
+	/** Save every loaded User to disk now. */
+	public void save() {
+		for (int i = 0; i != users.size(); i ++)
+			if (users.get(i) != null)
+				users.get(i).save();
+	}
+	
+	/** Save and release every loaded User. The Profiles must not be used after they are disposed. */
+	public void dispose() {
+		for (int i = 0; i != users.size(); i ++)
+			if (users.get(i) != null)
+				users.get(i).dispose();
+		users.clear();
+	}
+	
+	private User load(int ID) {
+		// Keep the User's economy and progress in a SaveFile where there is local storage for it.
+		if (Gdx.files.isLocalStorageAvailable())
+			return new User(ID, store, new SaveFile(Gdx.files.local("user_" + ID + ".sav")));
+		else
+			return new User(ID, store);
+	}
+}
@@ -0,0 +1,261 @@
+package com.jbs.swipe;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.jbs.framework.rendering.Renderable;
+
+public final class RenderQueue {
+	
+	/** The IOD of a layer that is rendered without calling beginIODChange/endIODChange. */
+	public static final float NO_IOD_CHANGE = 0;
+	
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private final Game game;
+	
+	/* The queued commands, in the order they were added. */
+	private Renderable[] renderables = new Renderable[INITIAL_CAPACITY];
+	private Texture[] textures = new Texture[INITIAL_CAPACITY];
+	/* The image each command was drawn from before packing, the path of a PackedRegion or else its Texture. */
+	private Object[] sources = new Object[INITIAL_CAPACITY];
+	/* True for each command that draws over the command before it, so it must never be drawn before it. */
+	private boolean[] overPrevious = new boolean[INITIAL_CAPACITY];
+	private int commands;
+	
+	/* The layers, in the order they were begun. Layer i holds the commands from layerStart[i] to layerStart[i + 1]. */
+	private float[] layerIOD = new float[INITIAL_CAPACITY];
+	private int[] layerStart = new int[INITIAL_CAPACITY];
+	private int layers;
+	private boolean inLayer = false;
+	
+	/* Scratch space for sorting a layer, so flushing does not allocate. */
+	private Renderable[] sortedRenderables = new Renderable[INITIAL_CAPACITY];
+	private Texture[] sortedTextures = new Texture[INITIAL_CAPACITY];
+	private Object[] sortedSources = new Object[INITIAL_CAPACITY];
+	private boolean[] sortedOverPrevious = new boolean[INITIAL_CAPACITY];
+	private boolean[] submitted = new boolean[INITIAL_CAPACITY];
+	
+	private int drawCalls, bindsSaved;
+	
+	/**
+	 * Create a RenderQueue, a list of Renderables that are submitted to a SpriteBatch grouped by Texture.
+	 * Every change of Texture flushes the SpriteBatch, so Renderables that share a Texture are drawn
+	 * together within each layer. Layers are drawn in the order they were begun, and Renderables that share
+	 * a Texture keep the order they were added in. Grouping moves Renderables ahead of others they were added
+	 * after, so a Renderable that draws over the one added before it is added with addOver().
+	 */
+	public RenderQueue(Game game) {
+		this.game = game;
+		startLayer(NO_IOD_CHANGE);
+	}
+	
+	/** Add the following Renderables to a new layer that is rendered within the Game's IOD change. */
+	public void beginLayer(float deltaIOD) {
+		if (inLayer)
+			throw new RuntimeException("Cannot begin a layer before the previous one has ended.");
+		startLayer(deltaIOD);
+		inLayer = true;
+	}
+	
+	/** Add the following Renderables to a new layer without an IOD change. */
+	public void endLayer() {
+		if (!inLayer)
+			throw new RuntimeException("Cannot end a layer that has not begun.");
+		startLayer(NO_IOD_CHANGE);
+		inLayer = false;
+	}
+	
+	/** Queue the Renderable, which draws the specified Texture. */
+	public void add(Texture texture, Renderable renderable) {
+		add(texture, texture, renderable, false);
+	}
+	
+	/** Queue the Renderable, which draws from the TextureRegion's Texture. */
+	public void add(TextureRegion region, Renderable renderable) {
+		add(region, renderable, false);
+	}
+	
+	/** Queue the Renderable, which draws from the TextureRegion's Texture over the Renderable queued before it.
+	 * It is still grouped with the Renderables that share its Texture, but is never moved ahead of the one before it. */
+	public void addOver(TextureRegion region, Renderable renderable) {
+		add(region, renderable, true);
+	}
+	
+	/** Queue a Renderable whose Texture is not known. It is drawn in the order it was added, Renderables
+	 * added before it are not moved after it and Renderables added after it are not moved before it. */
+	public void add(Renderable renderable) {
+		add(null, null, renderable, false);
+	}
+	
+	/** Render all the queued layers to the Batch, then empty the queue. */
+	public void flushTo(SpriteBatch batch) {
+		if (inLayer)
+			throw new RuntimeException("Cannot flush the RenderQueue before its layer has ended.");
+		
+		drawCalls = 0;
+		bindsSaved = 0;
+		Texture lastTexture = null;
+		Object lastSource = null;
+		for (int layer = 0; layer != layers; layer ++) {
+			final int
+				start = layerStart[layer],
+				end = (layer + 1 == layers)? commands : layerStart[layer + 1];
+			if (start == end)
+				continue;
+			
+			sortLayer(start, end);
+			
+			final float deltaIOD = layerIOD[layer];
+			if (deltaIOD != NO_IOD_CHANGE)
+				game.beginIODChange(batch, deltaIOD);
+			for (int i = start; i != end; i ++) {
+				// The SpriteBatch flushes whenever the Texture changes, Renderables with an unknown Texture count as one flush.
+				if (textures[i] == null || textures[i] != lastTexture)
+					drawCalls ++;
+				// Count the flushes that images packed into one Texture no longer cause.
+				else if (sources[i] != lastSource)
+					bindsSaved ++;
+				lastTexture = textures[i];
+				lastSource = sources[i];
+				renderables[i].renderTo(batch);
+			}
+			if (deltaIOD != NO_IOD_CHANGE)
+				game.endIODChange(batch, deltaIOD);
+		}
+		
+		clear();
+	}
+	
+	/** Remove all the queued Renderables without rendering them. */
+	public void clear() {
+		for (int i = 0; i != commands; i ++) {
+			renderables[i] = null;
+			textures[i] = null;
+			sources[i] = null;
+		}
+		commands = 0;
+		layers = 0;
+		inLayer = false;
+		startLayer(NO_IOD_CHANGE);
+	}
+	
+	/** @return the number of times the last flush changed the SpriteBatch's Texture. Each change is one draw call. */
+	public int drawCalls() {
+		return drawCalls;
+	}
+	
+	/** @return the number of draw calls the last flush would have made if the packed images were still separate Textures,
+	 * minus the number it made. */
+	public int bindsSaved() {
+		return bindsSaved;
+	}
+	
+	private void add(TextureRegion region, Renderable renderable, boolean isOverPrevious) {
+		if (region instanceof PackedRegion)
+			add(region.getTexture(), ((PackedRegion) region).source(), renderable, isOverPrevious);
+		else
+			add(region.getTexture(), region.getTexture(), renderable, isOverPrevious);
+	}
+	
+	private void add(Texture texture, Object source, Renderable renderable, boolean isOverPrevious) {
+		if (commands == renderables.length)
+			grow();
+		renderables[commands] = renderable;
+		textures[commands] = texture;
+		sources[commands] = source;
+		overPrevious[commands] = isOverPrevious;
+		commands ++;
+	}
+	
+	private void startLayer(float deltaIOD) {
+		// Reuse the current layer if nothing was added to it.
+		if (layers != 0 && layerStart[layers - 1] == commands)
+			layers --;
+		
+		if (layers == layerStart.length) {
+			final float[] newLayerIOD = new float[layers * 2];
+			final int[] newLayerStart = new int[layers * 2];
+			System.arraycopy(layerIOD, 0, newLayerIOD, 0, layers);
+			System.arraycopy(layerStart, 0, newLayerStart, 0, layers);
+			layerIOD = newLayerIOD;
+			layerStart = newLayerStart;
+		}
+		
+		layerIOD[layers] = deltaIOD;
+		layerStart[layers] = commands;
+		layers ++;
+	}
+	
+	/** Group the layer's commands by Texture, in the order each Texture first appears. Commands with an unknown
+	 * Texture stay where they are and split the layer into runs that are grouped separately. A command that draws
+	 * over the previous one is only taken into its Texture's group once the previous one has been, otherwise the
+	 * group stops there and the rest of it is taken when the command's turn comes. */
+	private void sortLayer(int start, int end) {
+		int runStart = start;
+		for (int i = start; i <= end; i ++)
+			if (i == end || textures[i] == null) {
+				sortRun(runStart, i);
+				runStart = i + 1;
+			}
+	}
+	
+	private void sortRun(int start, int end) {
+		if (end - start < 2)
+			return;
+		
+		int sorted = 0;
+		for (int first = start; first != end; first ++) {
+			if (submitted[first - start])
+				continue;
+			// Take every remaining command that shares the first remaining command's Texture, until one would be
+			// drawn before the command it draws over. Every command before the first has been taken already.
+			final Texture texture = textures[first];
+			for (int i = first; i != end; i ++)
+				if (!submitted[i - start] && textures[i] == texture) {
+					if (overPrevious[i] && i != start && !submitted[i - 1 - start])
+						break;
+					sortedRenderables[sorted] = renderables[i];
+					sortedTextures[sorted] = texture;
+					sortedSources[sorted] = sources[i];
+					sortedOverPrevious[sorted] = overPrevious[i];
+					submitted[i - start] = true;
+					sorted ++;
+				}
+		}
+		
+		for (int i = 0; i != sorted; i ++) {
+			renderables[start + i] = sortedRenderables[i];
+			textures[start + i] = sortedTextures[i];
+			sources[start + i] = sortedSources[i];
+			overPrevious[start + i] = sortedOverPrevious[i];
+			sortedRenderables[i] = null;
+			sortedTextures[i] = null;
+			sortedSources[i] = null;
+			submitted[i] = false;
+		}
+	}
+	
+	private void grow() {
+		final int capacity = renderables.length * 2;
+		
+		final Renderable[] newRenderables = new Renderable[capacity];
+		final Texture[] newTextures = new Texture[capacity];
+		final Object[] newSources = new Object[capacity];
+		final boolean[] newOverPrevious = new boolean[capacity];
+		System.arraycopy(renderables, 0, newRenderables, 0, commands);
+		System.arraycopy(textures, 0, newTextures, 0, commands);
+		System.arraycopy(sources, 0, newSources, 0, commands);
+		System.arraycopy(overPrevious, 0, newOverPrevious, 0, commands);
+		renderables = newRenderables;
+		textures = newTextures;
+		sources = newSources;
+		overPrevious = newOverPrevious;
+		
+		sortedRenderables = new Renderable[capacity];
+		sortedTextures = new Texture[capacity];
+		sortedSources = new Object[capacity];
+		sortedOverPrevious = new boolean[capacity];
+		submitted = new boolean[capacity];
+	}
+}
@@ -0,0 +1,353 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * A crash-safe binary save of named integer fields, such as the User's coins and trap stock. Every committed
+ * Transaction is appended to a journal as one checksummed record, so a crash while writing loses at most that
+ * Transaction and never half of it. After COMPACT_AFTER records the fields are written to a new snapshot and the
+ * journal is started again. Snapshots are written to two slots in turn, so a crash while one is written leaves the
+ * other, older snapshot whole, and the journal is only deleted once the new snapshot has been written.
+ *
+ * Loading reads the newest snapshot that passes its checksum then replays the journal's records that are newer than
+ * it, stopping at the first record that is cut short, fails its checksum or does not follow on from the snapshot.
+ * The files are written on a background thread in the order the Transactions were committed, the fields in memory
+ * are up to date as soon as a Transaction commits.
+ */
+public final class SaveFile {
+	
+	/** The number of Transactions appended to the journal before it is compacted into the snapshot. */
+	public static final int COMPACT_AFTER = 64;
+	
+	private static final int MAGIC = 0x53575356, VERSION = 1;
+	/* The operations of a journal record. */
+	private static final byte DEFINE = 1, SET = 2;
+	
+	/* The snapshot slots, and the slot holding the newest snapshot. */
+	private final FileHandle[] snapshotFiles;
+	private final FileHandle journalFile;
+	private int snapshotSlot;
+	
+	/* The name and value of each field by its id. */
+	private final ArrayList<String> fieldNames = new ArrayList<String>();
+	private final HashMap<String, Integer> fieldIds = new HashMap<String, Integer>();
+	private final IntArray values = new IntArray();
+	/* The number of fields whose definitions have been written. */
+	private int definedFields;
+	/* The sequence number of the last committed Transaction. */
+	private long sequence;
+	private int journalRecords;
+	private final boolean isNew;
+	
+	/* Writes the files in the order they are submitted. */
+	private final AsyncExecutor writer = new AsyncExecutor(1);
+	/* The writes that have been submitted and not yet checked, oldest first, and the first of them to have failed. */
+	private final ArrayList<AsyncResult<Void>> pendingWrites = new ArrayList<AsyncResult<Void>>();
+	private RuntimeException firstFailure;
+	private final ByteWriter record = new ByteWriter();
+	private final Transaction transaction = new Transaction();
+	
+	/**
+	 * Load the save from the snapshot and journal files, which may not exist yet.
+	 * @param file The snapshot file. The second snapshot slot and the journal are kept beside it with ".alt" and
+	 * ".journal" added to its name.
+	 */
+	public SaveFile(FileHandle file) {
+		this.snapshotFiles = new FileHandle[] { file, file.sibling(file.name() + ".alt") };
+		this.journalFile = file.sibling(file.name() + ".journal");
+		this.isNew = !snapshotFiles[0].exists() && !snapshotFiles[1].exists() && !journalFile.exists();
+		
+		final long
+			firstSequence = sequenceOfSnapshot(snapshotFiles[0]),
+			secondSequence = sequenceOfSnapshot(snapshotFiles[1]);
+		if (firstSequence != -1 || secondSequence != -1) {
+			snapshotSlot = (secondSequence > firstSequence)? 1 : 0;
+			readSnapshot(snapshotFiles[snapshotSlot]);
+		}
+		final boolean journalIsTorn = journalFile.exists() && replayJournal();
+		definedFields = fieldNames.size();
+		if (journalIsTorn)
+			// The journal ends in a record that was cut short, compact it away so new records are not appended after it.
+			compact();
+	}
+	
+	/** @return the id of the field with the name, defining the field with a value of 0 if it does not exist yet.
+	 * Look the id up once and keep it, so the field is not found by name every time it is used. */
+	public int field(String name) {
+		Integer id = fieldIds.get(name);
+		if (id == null) {
+			id = fieldNames.size();
+			fieldNames.add(name);
+			fieldIds.put(name, id);
+			values.add(0);
+		}
+		return id;
+	}
+	
+	/** @return the committed value of the field. */
+	public int get(int field) {
+		return values.get(field);
+	}
+	
+	/** Set the field to the value in a Transaction of its own. */
+	public void set(int field, int value) {
+		begin().set(field, value).commit();
+	}
+	
+	/** @return the Transaction to make changes in, which must be committed or aborted before the next is begun. */
+	public Transaction begin() {
+		if (transaction.isOpen)
+			throw new RuntimeException("Error in SaveFile.begin() : The last Transaction has not been committed or aborted.");
+		transaction.isOpen = true;
+		return transaction;
+	}
+	
+	/** Write the fields to a new snapshot and empty the journal. */
+	public void compact() {
+		final ByteWriter snapshot = new ByteWriter(32 + fieldNames.size() * 24);
+		snapshot.writeInt(MAGIC).writeShort(VERSION).writeLong(sequence).writeShort(fieldNames.size());
+		for (int field = 0; field != fieldNames.size(); field ++)
+			snapshot.writeString(fieldNames.get(field)).writeInt(values.get(field));
+		snapshot.writeInt(snapshot.checksumSince(0));
+		final byte[] bytes = snapshot.toArray();
+		definedFields = fieldNames.size();
+		journalRecords = 0;
+		// Write over the older snapshot, so the newest stays whole until the new one has been written.
+		snapshotSlot = 1 - snapshotSlot;
+		final FileHandle snapshotFile = snapshotFiles[snapshotSlot];
+		
+		submit(new AsyncTask<Void>() {
+			@Override
+			public Void call() throws Exception {
+				snapshotFile.writeBytes(bytes, false);
+				// The journal's records are all in the snapshot now. If deleting it fails they are older than
+				// the snapshot, so they are skipped when it is replayed.
+				journalFile.delete();
+				return null;
+			}
+		});
+	}
+	
+	/** Wait for everything committed to be written. Throws the first write that failed since the last flush. */
+	public void flush() {
+		checkWrites(true);
+		if (firstFailure != null) {
+			final RuntimeException failure = firstFailure;
+			firstFailure = null;
+			throw failure;
+		}
+	}
+	
+	/** Write everything committed and stop the background thread. The SaveFile must not be used after it is disposed. */
+	public void dispose() {
+		flush();
+		writer.dispose();
+	}
+	
+	/** @return true if neither the snapshot nor the journal existed when the save was loaded. */
+	public boolean isNew() {
+		return isNew;
+	}
+	
+	/** @return the names of the fields. Do not modify them. */
+	public ArrayList<String> fieldNames() {
+		return fieldNames;
+	}
+	
+	/** A set of changes to the fields that is saved all at once or not at all. */
+	public final class Transaction {
+		
+		/* The fields changed in the Transaction and their new values. */
+		private final IntArray changedFields = new IntArray(), newValues = new IntArray();
+		private boolean isOpen;
+		
+		private Transaction() { }
+		
+		/** @return the value of the field including the changes made in the Transaction. */
+		public int get(int field) {
+			final int index = changedFields.indexOf(field);
+			return (index == -1)? values.get(field) : newValues.get(index);
+		}
+		
+		public Transaction set(int field, int value) {
+			final int index = changedFields.indexOf(field);
+			if (index == -1) {
+				changedFields.add(field);
+				newValues.add(value);
+			} else
+				newValues.set(index, value);
+			return this;
+		}
+		
+		public Transaction add(int field, int amount) {
+			return set(field, get(field) + amount);
+		}
+		
+		/** Apply the changes and append them to the journal as one record. */
+		public void commit() {
+			if (!isOpen)
+				throw new RuntimeException("Error in SaveFile.Transaction.commit() : The Transaction has not begun.");
+			isOpen = false;
+			if (changedFields.size == 0)
+				return;
+			
+			sequence ++;
+			record.clear();
+			record.writeInt(0); // The length of the record's body, filled in below.
+			record.writeLong(sequence);
+			record.writeShort((fieldNames.size() - definedFields) + changedFields.size);
+			for (int field = definedFields; field != fieldNames.size(); field ++)
+				record.writeByte(DEFINE).writeShort(field).writeString(fieldNames.get(field));
+			for (int i = 0; i != changedFields.size; i ++) {
+				record.writeByte(SET).writeShort(changedFields.get(i)).writeInt(newValues.get(i));
+				values.set(changedFields.get(i), newValues.get(i));
+			}
+			record.setInt(0, record.size() - 4);
+			record.writeInt(record.checksumSince(4));
+			definedFields = fieldNames.size();
+			clear();
+			
+			final byte[] bytes = record.toArray();
+			submit(new AsyncTask<Void>() {
+				@Override
+				public Void call() throws Exception {
+					journalFile.writeBytes(bytes, true);
+					return null;
+				}
+			});
+			
+			if (++ journalRecords >= COMPACT_AFTER)
+				compact();
+		}
+		
+		/** Discard the changes. */
+		public void abort() {
+			isOpen = false;
+			clear();
+		}
+		
+		private void clear() {
+			changedFields.clear();
+			newValues.clear();
+		}
+	}
+	
+	private void submit(AsyncTask<Void> write) {
+		// Check the writes that have finished as new ones are queued, so the list does not grow between flushes.
+		checkWrites(false);
+		pendingWrites.add(writer.submit(write));
+	}
+	
+	/** Check the pending writes in the order they were submitted, keeping the first failure for flush().
+	 * @param wait True to wait for every write to finish, otherwise only the finished writes are checked. */
+	private void checkWrites(boolean wait) {
+		while (!pendingWrites.isEmpty() && (wait || pendingWrites.get(0).isDone())) {
+			final AsyncResult<Void> write = pendingWrites.remove(0);
+			try {
+				write.get();
+			} catch (RuntimeException failure) {
+				if (firstFailure == null)
+					firstFailure = failure;
+			}
+		}
+	}
+	
+	/** @return the sequence number of the snapshot, or -1 if it does not exist or cannot be read. A snapshot that
+	 * was cut short or corrupted is skipped, so the other slot's snapshot is loaded instead. */
+	private static long sequenceOfSnapshot(FileHandle snapshotFile) {
+		if (!snapshotFile.exists())
+			return -1;
+		final byte[] bytes = snapshotFile.readBytes();
+		String problem = null;
+		if (bytes.length < 20)
+			problem = "is cut short";
+		else if (ByteWriter.checksum(bytes, 0, bytes.length - 4) != new ByteReader(bytes, bytes.length - 4, 4).readInt())
+			problem = "is corrupt";
+		else {
+			final ByteReader input = new ByteReader(bytes);
+			if (input.readInt() != MAGIC)
+				problem = "is not a save file";
+			else if (input.readShort() != VERSION)
+				problem = "is from an unknown version";
+			else
+				return input.readLong();
+		}
+		System.out.println("SaveFile skipped " + snapshotFile.path() + ", it " + problem + ".");
+		return -1;
+	}
+	
+	/** Load the fields from a snapshot that sequenceOfSnapshot() has checked. */
+	private void readSnapshot(FileHandle snapshotFile) {
+		final ByteReader input = new ByteReader(snapshotFile.readBytes());
+		input.skip(6); // The magic number and version.
+		
+		sequence = input.readLong();
+		final int fields = input.readShort();
+		for (int i = 0; i != fields; i ++) {
+			final int field = field(input.readString());
+			values.set(field, input.readInt());
+		}
+	}
+	
+	/** Apply the journal's records that are newer than the snapshot.
+	 * @return true if the journal ends in a record that was cut short, corrupted or does not follow on from the
+	 * snapshot, which happens when the newest snapshot was skipped and the journal was started after it. */
+	private boolean replayJournal() {
+		final byte[] bytes = journalFile.readBytes();
+		final ByteReader input = new ByteReader(bytes);
+		while (input.remaining() != 0) {
+			if (input.remaining() < 4)
+				return true;
+			final int length = input.readInt();
+			final int start = input.position();
+			if (length < 0 || input.remaining() < length + 4)
+				return true;
+			input.skip(length);
+			if (ByteWriter.checksum(bytes, start, length) != input.readInt())
+				return true;
+			
+			final ByteReader body = new ByteReader(bytes, start, length);
+			final long recordSequence = body.readLong();
+			final int operations = body.readShort();
+			final boolean isNewer = recordSequence > sequence;
+			// A newer record must follow on from the snapshot, or the records before it are in a snapshot that was skipped.
+			if (isNewer && recordSequence != sequence + 1) {
+				System.out.println("SaveFile stopped replaying " + journalFile.path() + ", it skips from " + sequence
+					+ " to " + recordSequence + ".");
+				return true;
+			}
+			for (int i = 0; i != operations; i ++) {
+				final int operation = body.readByte(), field = body.readShort();
+				if (operation == DEFINE) {
+					final String name = body.readString();
+					// Records older than the snapshot define fields that the snapshot already has.
+					if (field(name) != field) {
+						System.out.println("SaveFile stopped replaying " + journalFile.path() + ", it defines \"" + name + "\" out of order.");
+						return true;
+					}
+				} else if (operation == SET) {
+					final int value = body.readInt();
+					if (field >= values.size) {
+						System.out.println("SaveFile stopped replaying " + journalFile.path() + ", it sets an undefined field.");
+						return true;
+					}
+					if (isNewer)
+						values.set(field, value);
+				} else
+					throw new RuntimeException("Error in SaveFile : " + journalFile.path() + " has an unknown operation " + operation + ".");
+			}
+			if (isNewer) {
+				sequence = recordSequence;
+				journalRecords ++;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,228 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.levels.LevelState;
+import com.jbs.swipe.traps.Bomb;
+import com.jbs.swipe.traps.DarkHole;
+
+/**
+ * Records a play session of a Level into a compact binary log, which the SessionReplayer plays back exactly. When a
+ * Level is initialized the recorder seeds the Game's random number generator, which SwipeTile.randomDirection() and
+ * the Level's formations draw from, and writes the seed, the GameClock's state and the User's traps as the header.
+ * From then on every frame is one record of how far the clock's source moved, whether the Level was updated or
+ * restarted, the InputProxy's touches when they change, the frame's TouchEvents and, every CHECK_INTERVAL frames,
+ * the score so a replay can tell where it diverged. The menus that are shown while the Level is paused or failed
+ * draw from the same generator and are not replayed, so the Game is reseeded whenever the Level is entered again
+ * and the new seed is recorded in that frame.
+ *
+ * Recording stops when the log reaches MAX_BYTES. The log is written to LOG_FILE when the Game is paused, so it can
+ * be attached to a bug report. Only developer builds record sessions, the recorder is disabled unless
+ * Game.IS_DEVELOPER_BUILD is set.
+ */
+public final class SessionRecorder {
+	
+	public static final int MAGIC = 0x53575253, VERSION = 2;
+	
+	/** The flags of a frame's record. */
+	public static final int
+		LEVEL_UPDATED = 1, // The Level was the Game's state and was updated.
+		RESTARTED = 2, // The Level was restarted.
+		INPUT = 4, // The InputProxy's touches changed, they follow.
+		EVENTS = 8, // The frame's TouchEvents follow.
+		CHECK = 16, // The Level's score follows.
+		RESEEDED = 32; // The Level was entered again and the Game reseeded, the seed follows.
+	
+	/** The number of the InputProxy's touches recorded, as many as the Level's TouchManager tracks. */
+	public static final int TOUCHES = 4;
+	/** The bit of the touch mask that is set when a touch went down during the frame. */
+	public static final int JUST_TOUCHED = 1 << TOUCHES;
+	/** The number of frames between records of the Level's score. */
+	public static final int CHECK_INTERVAL = 60;
+	/** The largest the log can grow to (in bytes) before recording stops. */
+	public static final int MAX_BYTES = 4 << 20;
+	/** The file (relative to the local storage) that the log is written to when the Game is paused. */
+	public static final String LOG_FILE = "session.rec";
+	
+	private final Game game;
+	private final ByteWriter log = new ByteWriter(4096);
+	
+	private LevelState level;
+	private boolean
+		enabled = Game.IS_DEVELOPER_BUILD,
+		recording = false,
+		levelIsActive, // True if the Level was the Game's state when the frame began.
+		restarted, // True if the Level was restarted during the frame.
+		reseeded, // True if the Game was reseeded during the frame.
+		skipFrame; // True for the frame recording began in, which the header describes.
+	/* The clock source's reading when the last frame was recorded. */
+	private long lastSample;
+	/* The seed the Game was given when the Level was last entered again. */
+	private long seed;
+	private int frames;
+	
+	/* The InputProxy's touches when they last changed. */
+	private int lastMask;
+	private final float[] lastX = new float[TOUCHES], lastY = new float[TOUCHES];
+	
+	public SessionRecorder(Game game) {
+		this.game = game;
+	}
+	
+	/** Seed the Game and begin a new session of the Level. Called as the Level is initialized, before it draws any random numbers. */
+	public void begin(LevelState level) {
+		if (!enabled)
+			return;
+		final long seed = System.nanoTime();
+		game.setRandomSeed(seed);
+		
+		final GameClock clock = game.clock();
+		log.clear();
+		log.writeInt(MAGIC).writeShort(VERSION).writeLong(seed)
+			.writeShort(game.screenWidth()).writeShort(game.screenHeight())
+			.writeString(level.getClass().getName())
+			.writeLong(clock.nanoTime()).writeFloat(clock.accumulator()).writeFloat(clock.timeScale())
+			// The rest of the frame the Level was entered in is animated by the frame's delta.
+			.writeFloat(clock.animationDelta())
+			.writeInt(game.user().stockOf(new Bomb(game))).writeInt(game.user().stockOf(new DarkHole(game)));
+		
+		this.level = level;
+		recording = true;
+		restarted = reseeded = false;
+		skipFrame = true;
+		lastSample = clock.lastSample();
+		frames = 0;
+		lastMask = 0;
+	}
+	
+	/** Note whether the Level is the Game's state. Called every frame after the clock has been ticked. */
+	public void beginFrame() {
+		if (recording)
+			levelIsActive = game.applicationState() == level;
+	}
+	
+	/** Reseed the Game as the Level is entered again, such as after the PausedState, so the random numbers the
+	 * menus drew while the Level was left do not change the ones it draws from now on. */
+	public void reentered(LevelState level) {
+		if (!recording || level != this.level)
+			return;
+		seed = System.nanoTime();
+		game.setRandomSeed(seed);
+		reseeded = true;
+	}
+	
+	/** Note that the Level was restarted. */
+	public void restarted() {
+		if (recording)
+			restarted = true;
+	}
+	
+	/** Record the frame. Called at the end of every frame. */
+	public void endFrame(InputProxy input, ArrayList<TouchEvent> events) {
+		if (!recording)
+			return;
+		final long sample = game.clock().lastSample();
+		if (skipFrame) {
+			skipFrame = false;
+			return;
+		}
+		
+		int mask = input.justTouched()? JUST_TOUCHED : 0;
+		boolean inputChanged = false;
+		for (int i = 0; i != TOUCHES; i ++)
+			if (input.isTouched(i)) {
+				mask |= 1 << i;
+				final float x = input.getX(i), y = input.getY(i);
+				inputChanged |= x != lastX[i] || y != lastY[i];
+				lastX[i] = x;
+				lastY[i] = y;
+			}
+		inputChanged |= mask != lastMask;
+		lastMask = mask;
+		
+		int flags = 0;
+		if (levelIsActive)
+			flags |= LEVEL_UPDATED;
+		if (restarted)
+			flags |= RESTARTED;
+		if (reseeded)
+			flags |= RESEEDED;
+		if (inputChanged)
+			flags |= INPUT;
+		if (!events.isEmpty())
+			flags |= EVENTS;
+		if (frames % CHECK_INTERVAL == 0)
+			flags |= CHECK;
+		
+		log.writeByte(flags);
+		// The whole delta is kept, the GameClock adds up every nanosecond of a long frame such as a resume.
+		log.writeLong(sample - lastSample);
+		if (reseeded)
+			log.writeLong(seed);
+		if (inputChanged) {
+			log.writeByte(mask);
+			for (int i = 0; i != TOUCHES; i ++)
+				if ((mask & (1 << i)) != 0)
+					log.writeFloat(lastX[i]).writeFloat(lastY[i]);
+		}
+		if (!events.isEmpty()) {
+			log.writeShort(events.size());
+			for (int i = 0; i != events.size(); i ++) {
+				final TouchEvent event = events.get(i);
+				// The event was stamped on arrival from the clock the frame was sampled from, so its time is kept as
+				// how long before the frame's sample it arrived and the replay can stamp it from its own clock.
+				log.writeByte(event.type()).writeByte(event.pointer())
+					.writeFloat(event.x()).writeFloat(event.y())
+					.writeInt(clamp(sample - event.time()));
+			}
+		}
+		if ((flags & CHECK) != 0)
+			log.writeInt(level.score().count());
+		
+		lastSample = sample;
+		restarted = reseeded = false;
+		frames ++;
+		
+		if (log.size() >= MAX_BYTES)
+			recording = false;
+	}
+	
+	/** Set whether Levels are recorded. Disabling the recorder stops the session being recorded, the Simulator
+	 * and SessionReplayer disable it so the Levels they drive are not seeded or recorded. */
+	public void setEnabled(boolean flag) {
+		enabled = flag;
+		if (!flag)
+			recording = false;
+	}
+	
+	/** @return true if Levels are recorded when they are initialized. */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/** @return true while a session is being recorded. */
+	public boolean isRecording() {
+		return recording;
+	}
+	
+	/** @return the number of frames recorded in the session. */
+	public int frames() {
+		return frames;
+	}
+	
+	/** @return the session's log. */
+	public byte[] toArray() {
+		return log.toArray();
+	}
+	
+	/** Write the session's log to the file. */
+	public void writeTo(FileHandle file) {
+		file.writeBytes(log.toArray(), false);
+	}
+	
+	private static int clamp(long nanoseconds) {
+		return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, nanoseconds));
+	}
+}
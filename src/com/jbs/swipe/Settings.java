@@ -1,7 +1,5 @@
 package com.jbs.swipe;
 
-import com.badlogic.gdx.Preferences;
-
 public class Settings {
 	
 	protected final static String
@@ -9,57 +7,54 @@ public class Settings {
 		OPTED_OUT_OF_TUTORIAL = "OptedOutOfTutorial",
 		IS_MUTED = "IsMuted";
 	
-	private final Preferences preferences;
+	private final PreferenceStore store;
 	
-	/** Create an interface for viewing and modifying the Game settings. */
-	public Settings(Preferences preferences) {
-		this.preferences = preferences;
+	/** Create an interface for viewing and modifying the Game settings. Changes are kept in the
+	 * store and written to disk in the background, call save() to write them immediately. */
+	public Settings(PreferenceStore store) {
+		this.store = store;
 	}
 	
 	/** @return true if the User has opted out of hearing sounds.*/
 	public boolean isMuted() {
-		return preferences().getBoolean(IS_MUTED);
+		return store().getBoolean(IS_MUTED);
 	}
 	
 	/** @return true if the User has opted to not see the tutorial. */
 	public boolean hasOptedOutOfTutorial() {
-		return preferences().getBoolean(OPTED_OUT_OF_TUTORIAL);
+		return store().getBoolean(OPTED_OUT_OF_TUTORIAL);
 	}
 	
 	public int numberOfLaunches() {
-		return preferences().getInteger(LAUNCHES);
+		return store().getInteger(LAUNCHES);
 	}
 	
 	public void addLaunch() {
-		preferences().putInteger(LAUNCHES, numberOfLaunches() + 1);
-		save();
+		store().putInteger(LAUNCHES, numberOfLaunches() + 1);
 	}
 	
 	/** Opt to not see the tutorial. */
 	public void optOutOfTutorial() {
-		preferences().putBoolean(OPTED_OUT_OF_TUTORIAL, true);
-		save();
+		store().putBoolean(OPTED_OUT_OF_TUTORIAL, true);
 	}
 	
 	/** Opt to see the tutorial. */
 	public void optIntoTutorial() {
-		preferences().putBoolean(OPTED_OUT_OF_TUTORIAL, false);
-		save();
+		store().putBoolean(OPTED_OUT_OF_TUTORIAL, false);
 	}
 	
 	/** Set whether or not the User wants to hear sounds. */
 	public void setMuted(boolean flag) {
-		preferences().putBoolean(IS_MUTED, flag);
-		save();
+		store().putBoolean(IS_MUTED, flag);
 	}
 	
-	/** Save the preferences to disk. */
+	/** Save the preferences to disk now, rather than waiting for the store to write them in the background. */
 	public void save() {
-		preferences().flush();
+		store().flush();
 	}
 	
-	/** @return the Preferences file to save settings to and read settings from. */
-	protected Preferences preferences() {
-		return preferences;
+	/** @return the store to save settings to and read settings from. */
+	protected PreferenceStore store() {
+		return store;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.jbs.swipe;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Records the phases of the Game's startup and the load of every asset as a Chrome trace, which can be opened
+ * in chrome://tracing or Perfetto. The trace is written to the local storage when the first interactive frame
+ * has been drawn, then again once the asset groups streamed in the background have finished loading.
+ *
+ * A start is cold when the process has just been created and warm when the Game is recreated in a process that
+ * already ran it (Android can keep the process alive after the Activity is destroyed). Each is written to its
+ * own file so the two can be compared across builds.
+ */
+public final class StartupTrace {
+	
+	/** The files (relative to the local storage) that cold and warm starts are written to. */
+	public static final String
+		COLD_TRACE_FILE = "startup-trace-cold.json",
+		WARM_TRACE_FILE = "startup-trace-warm.json";
+	
+	/* The trace's lanes, phases are drawn on the main lane and asset loads on their own below it. */
+	private static final int PHASE_THREAD = 1, ASSET_THREAD = 2;
+	
+	/* True once a trace has been started in this process. */
+	private static boolean startedBefore = false;
+	
+	private static boolean
+		recording = false,
+		warm = false,
+		firstInteractiveFrameDrawn = false;
+	/* The nano time the trace started, event times are in microseconds since it. */
+	private static long origin;
+	private static final StringBuilder events = new StringBuilder();
+	private static int assetCount;
+	private static long assetBytes;
+	
+	private StartupTrace() { }
+	
+	/** Begin a new trace from now. Called as soon as the Game is constructed. */
+	public static void start() {
+		warm = startedBefore;
+		startedBefore = true;
+		recording = true;
+		firstInteractiveFrameDrawn = false;
+		origin = System.nanoTime();
+		events.setLength(0);
+		assetCount = 0;
+		assetBytes = 0;
+		
+		instant(warm? "warm start" : "cold start");
+	}
+	
+	/** Begin the named phase. Phases must be ended in the reverse order they were begun. */
+	public static void begin(String phase) {
+		if (recording)
+			event(phase, 'B', PHASE_THREAD, microsecondsSinceOrigin(System.nanoTime()));
+	}
+	
+	/** End the named phase, which must be the last phase begun. */
+	public static void end(String phase) {
+		if (recording)
+			event(phase, 'E', PHASE_THREAD, microsecondsSinceOrigin(System.nanoTime()));
+	}
+	
+	/** Mark a moment of the startup. */
+	public static void instant(String name) {
+		if (!recording)
+			return;
+		event(name, 'i', PHASE_THREAD, microsecondsSinceOrigin(System.nanoTime()));
+		events.append(",\"s\":\"p\"}");
+	}
+	
+	/**
+	 * Record the load of an asset.
+	 * @param start The nano time the AssetManager began loading the asset.
+	 * @param end The nano time the asset was found to be loaded.
+	 * @param mainThreadTime The nano time spent in AssetManager.update() while the asset was being loaded.
+	 * @param bytes The size of the asset's files on disk.
+	 */
+	public static void asset(String path, String group, long start, long end, long mainThreadTime, long bytes) {
+		if (!recording)
+			return;
+		assetCount ++;
+		assetBytes += bytes;
+		
+		event(path, 'X', ASSET_THREAD, microsecondsSinceOrigin(start));
+		events.append(",\"dur\":").append((end - start) / 1000)
+			.append(",\"args\":{\"group\":\"").append(group)
+			.append("\",\"bytes\":").append(bytes)
+			.append(",\"main_thread_us\":").append(mainThreadTime / 1000).append("}}");
+	}
+	
+	/** Mark the first frame the user can interact with and write the trace. Only the first call is recorded. */
+	public static void firstInteractiveFrame() {
+		if (!recording || firstInteractiveFrameDrawn)
+			return;
+		firstInteractiveFrameDrawn = true;
+		
+		instant("first interactive frame");
+		System.out.println("First interactive frame " + microsecondsSinceOrigin(System.nanoTime()) / 1000 + "ms after startup, "
+			+ assetCount + " assets (" + assetBytes / 1024 + "KB) loaded.");
+		write();
+	}
+	
+	/** Mark that every asset group has loaded, write the trace and stop recording. */
+	public static void streamingFinished() {
+		if (!recording || !firstInteractiveFrameDrawn)
+			return;
+		
+		instant("asset streaming finished");
+		write();
+		recording = false;
+	}
+	
+	/** @return true while events are being recorded. */
+	public static boolean isRecording() {
+		return recording;
+	}
+	
+	/** @return true if the trace is of a warm start. */
+	public static boolean isWarm() {
+		return warm;
+	}
+	
+	/** Write the events recorded so far to the cold or warm trace file, if there is local storage to write it to. */
+	private static void write() {
+		// The GWT backend has no local storage.
+		if (!Gdx.files.isLocalStorageAvailable()) {
+			System.out.println("StartupTrace recorded " + assetCount + " assets, there is no local storage to write the trace to.");
+			return;
+		}
+		final FileHandle file = Gdx.files.local(warm? WARM_TRACE_FILE : COLD_TRACE_FILE);
+		
+		final StringBuilder json = new StringBuilder(events.length() + 256);
+		json.append("{\"traceEvents\":[")
+			.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(PHASE_THREAD).append(",\"args\":{\"name\":\"startup\"}},")
+			.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(ASSET_THREAD).append(",\"args\":{\"name\":\"assets\"}}")
+			.append(events)
+			.append("],\"displayTimeUnit\":\"ms\",\"otherData\":{\"start\":\"").append(warm? "warm" : "cold")
+			.append("\",\"assets\":").append(assetCount)
+			.append(",\"asset_bytes\":").append(assetBytes)
+			.append("}}");
+		
+		file.writeString(json.toString(), false);
+		System.out.println("StartupTrace wrote " + assetCount + " assets to " + file.path());
+	}
+	
+	/* Append the start of an event, its closing brace is appended by the caller. */
+	private static void event(String name, char phase, int thread, long timestamp) {
+		events.append(",{\"name\":\"");
+		appendEscaped(name);
+		events.append("\",\"ph\":\"").append(phase)
+			.append("\",\"pid\":1,\"tid\":").append(thread)
+			.append(",\"ts\":").append(timestamp);
+		if (phase == 'B' || phase == 'E')
+			events.append('}');
+	}
+	
+	private static void appendEscaped(String text) {
+		for (int i = 0; i != text.length(); i ++) {
+			final char c = text.charAt(i);
+			if (c == '"' || c == '\\')
+				events.append('\\');
+			events.append(c);
+		}
+	}
+	
+	private static long microsecondsSinceOrigin(long nanoTime) {
+		return (nanoTime - origin) / 1000;
+	}
+}
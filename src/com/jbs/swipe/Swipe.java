@@ -1,46 +1,116 @@
 package com.jbs.swipe;
 
 import com.badlogic.gdx.math.Vector2;
-import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.tiles.SwipeTile;
 
+/**
+ * A finger's movement across a SwipeTile, from where the finger entered it along its SwipePath. The SwipeRecognizer
+ * advances the Swipe as the path grows and expires it at the first point that reaches maxMagnitude from the origin,
+ * or when the finger is released. Its direction is the velocity fitted by least squares to the origin and the
+ * path's points since, which a little wobble at either end of the Swipe barely changes. The fit is taken from the
+ * path's running sums, so it costs the same however many points the Swipe has.
+ *
+ * The SwipeRecognizer reuses its Swipes once they have expired, so a SwipeTile must not keep its Swipe after it is judged.
+ */
 public class Swipe {
 	
-	private Vector2 origin;
-	private InputProxy input;
-	private boolean expired = false, comboSwipe;
-	private float maxMagnitude;
-	private final int swipeID;
+	/** The fewest points the direction is fitted to, with fewer it is the line from the origin to the end. */
+	public static final int MIN_FIT_SAMPLES = 3;
 	
-	public Swipe(InputProxy input, int swipeID, boolean comboSwipe, float maxMagnitude) {
-		if (!input.isTouched(swipeID))
-			throw new RuntimeException("Input " + swipeID + " is not touched, Swipe cannot be constructed.");
+	private SwipePath path;
+	/* The SwipeTile the Swipe is judged by when it expires, null if the Swipe was constructed on its own. */
+	private SwipeTile tile;
+	private final Vector2 origin = new Vector2(), end = new Vector2(), direction = new Vector2();
+	/* The time of the origin in milliseconds since the path began. */
+	private float originTime;
+	/* The path's sums when the Swipe began, the points added after are the Swipe's. */
+	private double count, sumT, sumX, sumY, sumTT, sumTX, sumTY;
+	private boolean expired = false, comboSwipe, fitted;
+	private float maxMagnitude, velocityX, velocityY;
+	/* The nano time the TouchEvent that expired the Swipe arrived. */
+	private long inputTime;
+	
+	/**
+	 * @param path The path of the finger making the Swipe.
+	 * @param originX The x-coordinate the Swipe began at.
+	 * @param originY The y-coordinate the Swipe began at.
+	 * @param originTime The time the Swipe began at in milliseconds since the path began.
+	 */
+	public Swipe(SwipePath path, float originX, float originY, float originTime, boolean comboSwipe, float maxMagnitude) {
+		begin(null, path, originX, originY, originTime, comboSwipe, maxMagnitude);
+	}
+	
+	/** Create a Swipe to be begun later by the SwipeRecognizer. */
+	Swipe() { }
+	
+	/**
+	 * Start the Swipe over along the path, forgetting where it was before.
+	 * @param tile The SwipeTile to judge the Swipe when it expires, or null.
+	 */
+	public void begin(SwipeTile tile, SwipePath path, float originX, float originY, float originTime, boolean comboSwipe, float maxMagnitude) {
 		if (maxMagnitude <= 0)
 			throw new RuntimeException("maxMagnitude is <= 0, Swipe cannot be constructed.");
 		
-		this.input = input;
-		this.swipeID = swipeID;
+		this.tile = tile;
+		this.path = path;
 		this.comboSwipe = comboSwipe;
-		this.origin = positionOf(input);
+		this.origin.set(originX, originY);
+		this.originTime = originTime;
 		this.maxMagnitude = maxMagnitude;
+		this.end.set(origin);
+		this.expired = false;
+		this.fitted = false;
+		this.inputTime = 0;
+		
+		this.count = path.count;
+		this.sumT = path.sumT;
+		this.sumX = path.sumX;
+		this.sumY = path.sumY;
+		this.sumTT = path.sumTT;
+		this.sumTX = path.sumTX;
+		this.sumTY = path.sumTY;
 	}
 	
 	/**
-	 * Expire the swipe if the input is no longer touched.
+	 * Move the end of the Swipe to the last point of its path.
+	 * @return true if the Swipe has reached maxMagnitude.
 	 */
-	public void updateExpiration() {
-		if ((!input.isTouched(swipeID) || magnitude() >= maxMagnitude) && !expired())
-			expire();
+	public boolean advance() {
+		end.set(path.x(), path.y());
+		fitted = false;
+		return magnitude() >= maxMagnitude;
 	}
 	
 	/**
-	 * Invalidate the swipe.
+	 * Invalidate the swipe. Does nothing if it has already expired.
 	 */
 	public final void expire() {
+		if (expired)
+			return;
 		expired = true;
+		inputTime = path.eventTime();
 		onExpire();
 	}
 	
-	public void onExpire() { }
+	/**
+	 * Invalidate the swipe without judging it, such as when its SwipeTile leaves the Level.
+	 */
+	public final void cancel() {
+		expired = true;
+	}
+	
+	/** Called once when the Swipe expires. Hands the Swipe to its SwipeTile to be judged. */
+	public void onExpire() {
+		if (tile != null)
+			tile.judge(this);
+	}
+	
+	/**
+	 * @return the nano time the TouchEvent that expired the Swipe arrived, the input the Swipe is judged on.
+	 */
+	public long inputTime() {
+		return inputTime;
+	}
 	
 	/**
 	 * @return true if the Swipe has expired.
@@ -71,14 +141,33 @@ public class Swipe {
 	 * (Counterclockwise) in degrees.
 	 */
 	public float swipeAngle() {
-		return asVector().angle();
+		if (!fitted)
+			fit();
+		return direction.angle();
+	}
+	
+	/**
+	 * @return the speed of the Swipe in pixels per millisecond, fitted to its points.
+	 * Zero if there were too few points to fit.
+	 */
+	public float speed() {
+		if (!fitted)
+			fit();
+		return (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+	}
+	
+	/**
+	 * @return the number of points the Swipe is judged on, including its origin.
+	 */
+	public int samples() {
+		return (int) (path.count - count) + 1;
 	}
 	
 	/**
 	 * @return the Swipe's magnitude.
 	 */
 	public float magnitude() {
-		return origin.dst(inputPosition());
+		return origin.dst(end);
 	}
 	
 	/**
@@ -94,21 +183,46 @@ public class Swipe {
 	}
 	
 	/**
-	 * @return the position of the Swipe's input.
+	 * @return the position of the Swipe's finger, or where it was released.
 	 */
 	public Vector2 inputPosition() {
-		return positionOf(input);
+		return end.cpy();
 	}
 	
 	protected final Vector2 asVector() {
-		return differenceOf(origin, positionOf(input));
+		return differenceOf(origin, end);
 	}
 	
 	/**
-	 * @return a new Vector2 constructed with the input's x and y screen coordinates.
+	 * Fit the velocity of the Swipe to its points by least squares. If there are too few points, or they were
+	 * all recorded at once, the direction is the line from the origin to the end instead.
 	 */
-	protected final Vector2 positionOf(InputProxy input) {
-		return new Vector2(input.getX(swipeID), input.getY(swipeID));
+	private void fit() {
+		fitted = true;
+		velocityX = velocityY = 0;
+		
+		// The Swipe's points are the path's points since it began, and its origin.
+		final double
+			n = path.count - count + 1,
+			t = path.sumT - sumT + originTime,
+			x = path.sumX - sumX + origin.x,
+			y = path.sumY - sumY + origin.y,
+			tt = path.sumTT - sumTT + originTime * originTime,
+			tx = path.sumTX - sumTX + originTime * origin.x,
+			ty = path.sumTY - sumTY + originTime * origin.y;
+		
+		if (n >= MIN_FIT_SAMPLES) {
+			final double varianceT = tt - t * t / n;
+			if (varianceT > 1E-6) {
+				velocityX = (float) ((tx - t * x / n) / varianceT);
+				velocityY = (float) ((ty - t * y / n) / varianceT);
+			}
+		}
+		
+		if (velocityX != 0 || velocityY != 0)
+			direction.set(velocityX, velocityY);
+		else
+			direction.set(end.x - origin.x, end.y - origin.y);
 	}
 	
 	/**
@@ -117,4 +231,4 @@ public class Swipe {
 	protected final Vector2 differenceOf(Vector2 vectorA, Vector2 vectorB) {
 		return new Vector2(vectorB.x - vectorA.x, vectorB.y - vectorA.y);
 	}
-}
\ No newline at end of file
+}
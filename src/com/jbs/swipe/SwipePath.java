@@ -0,0 +1,125 @@
+package com.jbs.swipe;
+
+/**
+ * The path of one finger since it went down, kept by the SwipeRecognizer. Each point of the path is added once, and
+ * the path keeps running sums of its points' times and positions, so the velocity of any Swipe along it can be
+ * fitted from the sums without revisiting the points.
+ */
+public final class SwipePath {
+	
+	private final int pointer;
+	private boolean active;
+	/* The TouchPointer's touch count of the touch the path follows. */
+	private int touch;
+	private long
+		startTime, // The nano time the path began.
+		eventTime; // The nano time of the TouchEvent of the last point.
+	private float
+		x, y,
+		time, // The time of the last point in milliseconds since the path began.
+		velocityX, velocityY; // The velocity of the last segment in pixels per millisecond.
+	
+	/* The running sums of the points' times (in milliseconds since the path began) and positions. */
+	double count, sumT, sumX, sumY, sumTT, sumTX, sumTY;
+	
+	public SwipePath(int pointer) {
+		this.pointer = pointer;
+	}
+	
+	/** Start a new path at the point where the finger went down.
+	 * @param touch The TouchPointer's touch count of the touch. */
+	public void begin(int touch, float x, float y, long time) {
+		this.active = true;
+		this.touch = touch;
+		this.startTime = time;
+		this.eventTime = time;
+		this.x = x;
+		this.y = y;
+		this.time = 0;
+		velocityX = velocityY = 0;
+		count = sumT = sumX = sumY = sumTT = sumTX = sumTY = 0;
+		addPoint(x, y, 0);
+	}
+	
+	/** Extend the path to the point, updating the velocity of its last segment. */
+	public void add(float x, float y, long time) {
+		final float t = millisecondsAt(time);
+		final float elapsed = t - this.time;
+		// Points that arrive together keep the last segment's velocity.
+		if (elapsed > 0) {
+			velocityX = (x - this.x) / elapsed;
+			velocityY = (y - this.y) / elapsed;
+		}
+		
+		this.x = x;
+		this.y = y;
+		this.time = t;
+		this.eventTime = time;
+		addPoint(x, y, t);
+	}
+	
+	/** Finish the path, the finger has been released. */
+	public void end() {
+		active = false;
+	}
+	
+	/** @return the time in milliseconds since the path began. */
+	public float millisecondsAt(long nanoTime) {
+		return (nanoTime - startTime) * 1E-6f;
+	}
+	
+	/** @return the index of the finger the path follows. */
+	public int pointer() {
+		return pointer;
+	}
+	
+	/** @return true if the finger is still down. */
+	public boolean isActive() {
+		return active;
+	}
+	
+	/** @return the TouchPointer's touch count of the touch the path follows. */
+	public int touch() {
+		return touch;
+	}
+	
+	/** @return the x-coordinate of the path's last point. */
+	public float x() {
+		return x;
+	}
+	
+	/** @return the y-coordinate of the path's last point. */
+	public float y() {
+		return y;
+	}
+	
+	/** @return the time of the path's last point in milliseconds since the path began. */
+	public float time() {
+		return time;
+	}
+	
+	/** @return the nano time the TouchEvent of the path's last point arrived. */
+	public long eventTime() {
+		return eventTime;
+	}
+	
+	/** @return the velocity of the path's last segment along the x-axis in pixels per millisecond. */
+	public float velocityX() {
+		return velocityX;
+	}
+	
+	/** @return the velocity of the path's last segment along the y-axis in pixels per millisecond. */
+	public float velocityY() {
+		return velocityY;
+	}
+	
+	private void addPoint(float x, float y, float t) {
+		count ++;
+		sumT += t;
+		sumX += x;
+		sumY += y;
+		sumTT += t * t;
+		sumTX += t * x;
+		sumTY += t * y;
+	}
+}
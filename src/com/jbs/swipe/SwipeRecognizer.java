@@ -0,0 +1,168 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Pool;
+import com.jbs.swipe.tiles.SwipeTile;
+import com.jbs.swipe.tiles.TileGrid;
+
+/**
+ * Tracks the path of every finger once and hands each SwipeTile the part of a path that crosses it. Each segment of
+ * a path is looked up in the TileGrid, and the SwipeTiles it enters are told where and when, in the order the
+ * finger entered them. The Swipes begun on those SwipeTiles all read the one SwipePath, so a finger crossing many
+ * SwipeTiles is only tracked once however many it crosses.
+ *
+ * A Swipe expires at the first point of its path that reaches its SwipeTile's required magnitude, or when its finger
+ * is released. Every finger the TouchManager tracks is recognized at once, so several fingers can combo-swipe
+ * different SwipeTiles together. The Swipes are pooled and reused once they expire, so swiping makes no garbage.
+ */
+public final class SwipeRecognizer {
+	
+	private final int maxTouches;
+	private final SwipePath[] paths;
+	/* The Swipes in progress along each path. */
+	private final ArrayList<Swipe>[] swipes;
+	private final Pool<Swipe> swipePool = new Pool<Swipe>(16) {
+		@Override
+		protected Swipe newObject() {
+			return new Swipe();
+		}
+	};
+	/* The SwipeTiles entered by the segment being crossed, and how far along it each was entered. */
+	private final ArrayList<SwipeTile> crossedTiles = new ArrayList<SwipeTile>();
+	private final FloatArray crossedAt = new FloatArray();
+	private TileGrid tileIndex;
+	
+	@SuppressWarnings("unchecked")
+	public SwipeRecognizer(int maxTouches) {
+		this.maxTouches = maxTouches;
+		this.paths = new SwipePath[maxTouches];
+		this.swipes = new ArrayList[maxTouches];
+		for (int i = 0; i != maxTouches; i ++) {
+			paths[i] = new SwipePath(i);
+			swipes[i] = new ArrayList<Swipe>(4);
+		}
+	}
+	
+	/** @param tileIndex The TileGrid to find the SwipeTiles under the paths in, or null to stop recognizing Swipes. */
+	public void setTileIndex(TileGrid tileIndex) {
+		this.tileIndex = tileIndex;
+	}
+	
+	/** Extend the path of the TouchEvent's finger, begin Swipes on the SwipeTiles it enters and advance the Swipes along it. */
+	public void handle(TouchEvent event, TouchPointer pointer) {
+		if (event.pointer() >= maxTouches)
+			return;
+		final SwipePath path = paths[event.pointer()];
+		
+		if (event.type() == TouchEvent.DOWN) {
+			// The finger's last touch was never released as far as the recognizer saw, such as while the Level was paused.
+			if (path.isActive())
+				release(path);
+			path.begin(pointer.touches(), event.x(), event.y(), event.time());
+			cross(path, event.x(), event.y(), 0, false);
+			advance(path);
+		} else if (path.isActive()) {
+			// A finger that slides onto a SwipeTile combo-swipes it. The Swipes begin before the point is
+			// added to the path, so the point is one of theirs.
+			cross(path, event.x(), event.y(), path.millisecondsAt(event.time()), true);
+			path.add(event.x(), event.y(), event.time());
+			advance(path);
+			if (event.type() == TouchEvent.UP)
+				release(path);
+		}
+	}
+	
+	/**
+	 * Release the paths of fingers that went up without the recognizer seeing it, and begin combo-swipes on SwipeTiles
+	 * that have moved under a finger that is held still. Called once per frame after the frame's TouchEvents.
+	 */
+	public void update(TouchInput input) {
+		for (int i = 0; i != maxTouches; i ++) {
+			final SwipePath path = paths[i];
+			if (!path.isActive())
+				continue;
+			
+			final TouchPointer pointer = input.pointer(i);
+			if (!pointer.isTouched() || pointer.touches() != path.touch())
+				release(path);
+			else
+				cross(path, path.x(), path.y(), path.time(), true);
+		}
+	}
+	
+	/** Cancel every Swipe in progress and forget the paths. */
+	public void reset() {
+		for (int i = 0; i != maxTouches; i ++) {
+			for (int j = 0; j != swipes[i].size(); j ++) {
+				swipes[i].get(j).cancel();
+				swipePool.free(swipes[i].get(j));
+			}
+			swipes[i].clear();
+			paths[i].end();
+		}
+	}
+	
+	/** @return the path of the finger. */
+	public SwipePath path(int pointer) {
+		return paths[pointer];
+	}
+	
+	/** @return the number of Swipes in progress along the finger's path. */
+	public int swipesAlong(int pointer) {
+		return swipes[pointer].size();
+	}
+	
+	/**
+	 * Begin Swipes on the SwipeTiles entered by the segment from the path's last point to the next, in the order they were entered.
+	 * @param toX The x-coordinate of the end of the segment.
+	 * @param toY The y-coordinate of the end of the segment.
+	 * @param toTime The time of the end of the segment in milliseconds since the path began.
+	 */
+	private void cross(SwipePath path, float toX, float toY, float toTime, boolean comboSwipe) {
+		if (tileIndex == null)
+			return;
+		
+		final float fromX = path.x(), fromY = path.y(), fromTime = path.time();
+		tileIndex.crossedBy(fromX, fromY, toX, toY, crossedTiles, crossedAt);
+		for (int i = 0; i != crossedTiles.size(); i ++) {
+			final float along = crossedAt.get(i);
+			final Swipe swipe = swipePool.obtain();
+			if (crossedTiles.get(i).beginSwipe(swipe, path,
+					fromX + (toX - fromX) * along,
+					fromY + (toY - fromY) * along,
+					fromTime + (toTime - fromTime) * along,
+					comboSwipe))
+				swipes[path.pointer()].add(swipe);
+			else
+				swipePool.free(swipe);
+		}
+		crossedTiles.clear();
+	}
+	
+	/** Advance the Swipes along the path to its last point, expiring those that reach their magnitude. */
+	private void advance(SwipePath path) {
+		final ArrayList<Swipe> pathSwipes = swipes[path.pointer()];
+		for (int i = 0; i < pathSwipes.size(); i ++) {
+			final Swipe swipe = pathSwipes.get(i);
+			// Swipes are cancelled when their SwipeTile leaves the Level.
+			if (swipe.expired() || swipe.advance()) {
+				pathSwipes.remove(i --);
+				swipe.expire();
+				swipePool.free(swipe);
+			}
+		}
+	}
+	
+	/** Expire the Swipes along the path, in the order they began, and finish it. */
+	private void release(SwipePath path) {
+		final ArrayList<Swipe> pathSwipes = swipes[path.pointer()];
+		while (!pathSwipes.isEmpty()) {
+			final Swipe swipe = pathSwipes.remove(0);
+			swipe.expire();
+			swipePool.free(swipe);
+		}
+		path.end();
+	}
+}
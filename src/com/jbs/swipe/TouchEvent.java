@@ -0,0 +1,55 @@
+package com.jbs.swipe;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+/**
+ * A touch that went down, moved or went up, in the Game's virtual screen coordinates. TouchEvents are pooled by the
+ * TouchInput and only valid during the frame they are dispatched in, so keep their values rather than the events.
+ */
+public final class TouchEvent implements Poolable {
+	
+	public static final int
+		DOWN = 0,
+		MOVE = 1,
+		UP = 2;
+	
+	int type, pointer;
+	float x, y;
+	/* The nano time the touch arrived, from the Game's clock source. */
+	long time;
+	
+	/** @return DOWN, MOVE or UP. */
+	public int type() {
+		return type;
+	}
+	
+	/** @return the index of the finger that made the touch. */
+	public int pointer() {
+		return pointer;
+	}
+	
+	public float x() {
+		return x;
+	}
+	
+	public float y() {
+		return y;
+	}
+	
+	/** @return the nano time that the touch arrived from the Game's clock source, which may be earlier than the frame it is dispatched in. */
+	public long time() {
+		return time;
+	}
+	
+	@Override
+	public void reset() {
+		type = pointer = 0;
+		x = y = 0;
+		time = 0;
+	}
+	
+	@Override
+	public String toString() {
+		return ((type == DOWN)? "DOWN" : (type == MOVE)? "MOVE" : "UP") + " " + pointer + " (" + x + ", " + y + ") at " + time;
+	}
+}
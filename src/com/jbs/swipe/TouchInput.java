@@ -0,0 +1,140 @@
+package com.jbs.swipe;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The Game's single queue of touches. libgdx hands every touch to the TouchInput as it happens, so touches that go
+ * down and up between two frames are not lost like they are when the Input is polled once a frame. The touches are
+ * queued as pooled TouchEvents, and at the start of each frame the queued events become that frame's events and
+ * the TouchPointers are moved to where the events leave them.
+ *
+ * The TouchInput is installed in front of the InputProcessor that was already set and never consumes the touches,
+ * so the InputProxy the Buttons read is unaffected.
+ */
+public final class TouchInput extends InputAdapter {
+	
+	/** The number of fingers that are tracked, touches from any more are ignored. */
+	public static final int MAX_POINTERS = 10;
+	
+	private final int virtualWidth, virtualHeight;
+	private final Pool<TouchEvent> pool = new Pool<TouchEvent>(32) {
+		@Override
+		protected TouchEvent newObject() {
+			return new TouchEvent();
+		}
+	};
+	/* The events received since the frame began, and the events of the current frame. */
+	private ArrayList<TouchEvent>
+		received = new ArrayList<TouchEvent>(32),
+		frameEvents = new ArrayList<TouchEvent>(32);
+	private final TouchPointer[] pointers = new TouchPointer[MAX_POINTERS];
+	
+	/** Create a queue of touches in the virtual screen coordinates. */
+	public TouchInput(int virtualWidth, int virtualHeight) {
+		this.virtualWidth = virtualWidth;
+		this.virtualHeight = virtualHeight;
+		for (int i = 0; i != MAX_POINTERS; i ++)
+			pointers[i] = new TouchPointer(i);
+	}
+	
+	/** Receive the touches from libgdx, ahead of the InputProcessor that is already set. */
+	public void install() {
+		final InputProcessor current = Gdx.input.getInputProcessor();
+		if (current == null)
+			Gdx.input.setInputProcessor(this);
+		else
+			Gdx.input.setInputProcessor(new InputMultiplexer(this, current));
+	}
+	
+	/** Free the last frame's events and make the events received since then the current frame's. Called once at the start of every frame. */
+	public void beginFrame() {
+		for (int i = 0; i != frameEvents.size(); i ++)
+			pool.free(frameEvents.get(i));
+		frameEvents.clear();
+		
+		final ArrayList<TouchEvent> events = frameEvents;
+		frameEvents = received;
+		received = events;
+		
+		for (int i = 0; i != MAX_POINTERS; i ++)
+			pointers[i].beginFrame();
+		for (int i = 0; i != frameEvents.size(); i ++)
+			pointers[frameEvents.get(i).pointer].apply(frameEvents.get(i));
+	}
+	
+	/** @return the TouchEvents of the current frame in the order they happened. The List must not be modified. */
+	public ArrayList<TouchEvent> events() {
+		return frameEvents;
+	}
+	
+	/** @return the state of the finger as of the end of the current frame's events. */
+	public TouchPointer pointer(int index) {
+		return pointers[index];
+	}
+	
+	/** @return true if any finger is down. */
+	public boolean isTouched() {
+		for (int i = 0; i != MAX_POINTERS; i ++)
+			if (pointers[i].isTouched())
+				return true;
+		return false;
+	}
+	
+	@Override
+	public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+		queue(TouchEvent.DOWN, screenX, screenY, pointer);
+		return false;
+	}
+	
+	@Override
+	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		queue(TouchEvent.MOVE, screenX, screenY, pointer);
+		return false;
+	}
+	
+	@Override
+	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		queue(TouchEvent.UP, screenX, screenY, pointer);
+		return false;
+	}
+	
+	/**
+	 * Queue a touch that did not come through libgdx's InputProcessor for the next frame, such as a scripted one.
+	 * A launcher whose platform batches the historical points of a move (like Android's MotionEvent) can inject
+	 * them as MOVE events with their own times, so Swipes are fitted to every point the finger passed through.
+	 * The times must be from the Game's clock source, converted from the platform's clock if need be.
+	 * @param type TouchEvent.DOWN, MOVE or UP.
+	 * @param x The x-coordinate of the touch in the virtual screen.
+	 * @param y The y-coordinate of the touch in the virtual screen.
+	 * @param time The nano time of the touch, read from the Game's clock source like game.clock().source().nanoTime().
+	 */
+	public void inject(int type, int pointer, float x, float y, long time) {
+		if (pointer < 0 || pointer >= MAX_POINTERS)
+			return;
+		
+		final TouchEvent event = pool.obtain();
+		event.type = type;
+		event.pointer = pointer;
+		event.x = x;
+		event.y = y;
+		event.time = time;
+		received.add(event);
+	}
+	
+	private void queue(int type, int screenX, int screenY, int pointer) {
+		// Stamp the touch from the clock the frames are timed by. The backend's timestamp is from the platform's
+		// own clock, which cannot be compared with the frames' times.
+		final long time = Game.game.clock().source().nanoTime();
+		// Scale the touch to the virtual screen, whose y-axis points up.
+		inject(type, pointer,
+				screenX * (float) virtualWidth / Gdx.graphics.getWidth(),
+				(Gdx.graphics.getHeight() - screenY) * (float) virtualHeight / Gdx.graphics.getHeight(),
+				time);
+	}
+}
@@ -1,20 +1,22 @@
 package com.jbs.swipe;
 
-import com.badlogic.gdx.math.Vector2;
-import com.jbs.framework.io.InputProxy;
-
 public interface TouchListener {
 	
 	/**
-	 * Be notified of a touch.
-	 * @param touchPosition The position of the touch.
-	 * @param touchID The ID of the touch.
+	 * Be notified of a finger going down.
+	 * @param event The touch, only valid until the method returns.
+	 */
+	void onTouch(TouchEvent event);
+	
+	/**
+	 * Be notified of a finger moving while it is down.
+	 * @param event The touch, only valid until the method returns.
 	 */
-	void onTouch(Vector2 touchPosition, int touchID, InputProxy input);
+	void onDrag(TouchEvent event);
 	
 	/**
-	 * @param touchID The ID of the touch that was released.
+	 * @param event The finger that was released, only valid until the method returns.
 	 */
-	void onRelease(int touchID);
+	void onRelease(TouchEvent event);
 	
 }
\ No newline at end of file
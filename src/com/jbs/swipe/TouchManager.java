@@ -2,21 +2,21 @@ package com.jbs.swipe;
 
 import java.util.ArrayList;
 
-import com.badlogic.gdx.math.Vector2;
-import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.tiles.TileGrid;
 
 public final class TouchManager {
 	
 	private ArrayList<TouchListener> touchListeners, touchListenersToRemove, touchListenersToAdd;
-	private boolean[] previousTouchState;
 	private final int MAX_TOUCHES;
+	/* Follows each finger's path and swipes the SwipeTiles it crosses. */
+	private final SwipeRecognizer recognizer;
 	
 	public TouchManager(int maxTouches) {
 		this.MAX_TOUCHES = maxTouches;
+		this.recognizer = new SwipeRecognizer(maxTouches);
 		this.touchListeners = new ArrayList<TouchListener>();
 		this.touchListenersToRemove = new ArrayList<TouchListener>();
 		this.touchListenersToAdd = new ArrayList<TouchListener>();
-		this.previousTouchState = new boolean[maxTouches];
 	}
 	
 	public boolean hasListener(TouchListener listener) {
@@ -30,6 +30,18 @@ public final class TouchManager {
 		this.touchListeners.clear();
 	}
 	
+	/**
+	 * @param tileIndex The TileGrid to route touches through, or null to stop routing touches to SwipeTiles.
+	 */
+	public void setTileIndex(TileGrid tileIndex) {
+		recognizer.setTileIndex(tileIndex);
+	}
+	
+	/** @return the SwipeRecognizer that follows the fingers' paths across the SwipeTiles. */
+	public SwipeRecognizer recognizer() {
+		return recognizer;
+	}
+	
 	/**
 	 * @param listener The Listener to notify of touch events.
 	 */
@@ -45,51 +57,53 @@ public final class TouchManager {
 	}
 	
 	/**
-	 * Update the TouchManager with the Input. May call Listener's events.
-	 * @param input 
+	 * Dispatch the current frame's TouchEvents to the Listeners and follow them along the SwipeTiles they cross.
+	 * May call Listener's events.
 	 */
-	public void update(InputProxy input) {
+	public void update(TouchInput input) {
 		flushListenerQueue();
 		
-		final boolean[] currentTouchState = getTouchStateOf(input);
-		for (int i = 0; i != MAX_TOUCHES; i ++)
-			// If input[i] is currently touched and was not previously touched,
-			if (currentTouchState[i] && !previousTouchState[i])
-				notifyListenersOfTouch(new Vector2(input.getX(i), input.getY(i)), i, input);
-			// Else if input[i] is currently touched and was previously touched,
-			else if (!currentTouchState[i] && previousTouchState[i])
-				notifyListenersOfRelease(i);;
-		previousTouchState = currentTouchState;
+		final ArrayList<TouchEvent> events = input.events();
+		for (int i = 0; i != events.size(); i ++) {
+			final TouchEvent event = events.get(i);
+			if (event.pointer() >= MAX_TOUCHES)
+				continue;
+			
+			if (event.type() == TouchEvent.DOWN)
+				notifyListenersOfTouch(event);
+			else if (event.type() == TouchEvent.MOVE)
+				notifyListenersOfDrag(event);
+			else
+				notifyListenersOfRelease(event);
+			recognizer.handle(event, input.pointer(event.pointer()));
+		}
+		
+		// Fingers that are held still can still combo-swipe SwipeTiles that move under them.
+		recognizer.update(input);
 	}
 	
-	/**
-	 * @param input The InputProxy to fetch the state of.
-	 * @return An array containing the touched status of all the 
-	 */
-	protected boolean[] getTouchStateOf(InputProxy input) {
-		boolean[] touchState = new boolean[MAX_TOUCHES];
-		for (int i = 0; i != MAX_TOUCHES; i ++)
-			touchState[i] = input.isTouched(i);
-		return touchState;
+	private void notifyListenersOfTouch(TouchEvent event) {
+		for (int i = 0; i != touchListeners.size(); i ++)
+			touchListeners.get(i).onTouch(event);
 	}
 	
-	private void notifyListenersOfTouch(Vector2 touchPosition, int touchID, InputProxy proxy) {
-		for (TouchListener listener : touchListeners)
-			listener.onTouch(touchPosition, touchID, proxy);
+	private void notifyListenersOfDrag(TouchEvent event) {
+		for (int i = 0; i != touchListeners.size(); i ++)
+			touchListeners.get(i).onDrag(event);
 	}
 	
-	private void notifyListenersOfRelease(int touchID) {
-		for (TouchListener listener : touchListeners)
-			listener.onRelease(touchID);
+	private void notifyListenersOfRelease(TouchEvent event) {
+		for (int i = 0; i != touchListeners.size(); i ++)
+			touchListeners.get(i).onRelease(event);
 	}
 	
 	private void flushListenerQueue() {
-		for (TouchListener listener : this.touchListenersToAdd)
-			touchListeners.add(listener);
+		for (int i = 0; i != touchListenersToAdd.size(); i ++)
+			touchListeners.add(touchListenersToAdd.get(i));
 		touchListenersToAdd.clear();
 		
-		for (TouchListener listener : this.touchListenersToRemove)
-			touchListeners.remove(listener);
+		for (int i = 0; i != touchListenersToRemove.size(); i ++)
+			touchListeners.remove(touchListenersToRemove.get(i));
 		touchListenersToRemove.clear();
 	}
 }
\ No newline at end of file
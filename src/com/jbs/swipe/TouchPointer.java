@@ -0,0 +1,104 @@
+package com.jbs.swipe;
+
+/**
+ * The state of one finger as of the end of the current frame's TouchEvents.
+ */
+public final class TouchPointer {
+	
+	private final int index;
+	private boolean touched;
+	private float
+		x, y,
+		downX, downY,
+		// The position at the start of the frame.
+		frameX, frameY;
+	private long downTime, time;
+	/* The number of times the finger has gone down, so a touch can tell it has been replaced by a new one. */
+	private int touches;
+	
+	TouchPointer(int index) {
+		this.index = index;
+	}
+	
+	/** Move the pointer to the TouchEvent. */
+	void apply(TouchEvent event) {
+		if (event.type == TouchEvent.DOWN) {
+			touched = true;
+			touches ++;
+			downX = frameX = event.x;
+			downY = frameY = event.y;
+			downTime = event.time;
+		} else if (event.type == TouchEvent.UP)
+			touched = false;
+		
+		x = event.x;
+		y = event.y;
+		time = event.time;
+	}
+	
+	/** Start measuring the pointer's movement from where it is now. Called at the start of every frame. */
+	void beginFrame() {
+		frameX = x;
+		frameY = y;
+	}
+	
+	/** @return the index of the finger. */
+	public int index() {
+		return index;
+	}
+	
+	/** @return true if the finger is down. */
+	public boolean isTouched() {
+		return touched;
+	}
+	
+	/** @return the x-coordinate the finger is at, or was last at if it is up. */
+	public float x() {
+		return x;
+	}
+	
+	/** @return the y-coordinate the finger is at, or was last at if it is up. */
+	public float y() {
+		return y;
+	}
+	
+	/** @return the x-coordinate the finger went down at. */
+	public float downX() {
+		return downX;
+	}
+	
+	/** @return the y-coordinate the finger went down at. */
+	public float downY() {
+		return downY;
+	}
+	
+	/** @return how far the finger moved along the x-axis this frame. */
+	public float deltaX() {
+		return x - frameX;
+	}
+	
+	/** @return how far the finger moved along the y-axis this frame. */
+	public float deltaY() {
+		return y - frameY;
+	}
+	
+	/** @return the nano time the finger went down. */
+	public long downTime() {
+		return downTime;
+	}
+	
+	/** @return the nano time of the finger's last TouchEvent. */
+	public long time() {
+		return time;
+	}
+	
+	/** @return the number of times the finger has gone down. Changes whenever the finger starts a new touch. */
+	public int touches() {
+		return touches;
+	}
+	
+	/** @return true if the point is within the rectangle. */
+	public boolean isWithin(float x, float y, float width, float height) {
+		return this.x > x && this.x < x + width && this.y > y && this.y < y + height;
+	}
+}
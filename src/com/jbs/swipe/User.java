@@ -1,6 +1,7 @@
 package com.jbs.swipe;
 
-import com.badlogic.gdx.Preferences;
+import java.util.HashMap;
+
 import com.jbs.swipe.traps.Trap;
 
 public class User {
@@ -12,55 +13,96 @@ public class User {
 		TRAP_STOCK = ":TrapStock";
 	
 	private final int ID;
-	private final Preferences preferences;
+	private final PreferenceStore store;
+	/* The User's keys in the store, built once rather than every time a value is read. */
+	private final String coinKey, highScoreKey;
+	private final HashMap<String, String> stockKeys = new HashMap<String, String>();
+	/* The User's economy and progress, or null if there is no local storage to keep it in. */
+	private final SaveFile save;
+	/* The ids of the User's fields in the save. */
+	private final int coinField, highScoreField;
+	private final HashMap<String, Integer> stockFields = new HashMap<String, Integer>();
 	
-	/** Create an access point to save User data.
+	/** Create an access point to save User data. Changes are kept in the store and written
+	 * to disk in the background, call save() to write them immediately.
 	 * @param ID The User's unique ID. */
-	public User(int ID, Preferences preferences) {
+	public User(int ID, PreferenceStore store) {
+		this(ID, store, null);
+	}
+	
+	/** Create an access point to save User data, keeping the User's coins, high score and trap stock in the SaveFile.
+	 * If the SaveFile is new, the values the User saved to the store before are moved into it.
+	 * @param ID The User's unique ID.
+	 * @param save The SaveFile, or null to keep everything in the store. */
+	public User(int ID, PreferenceStore store, SaveFile save) {
 		this.ID = ID;
-		this.preferences = preferences;
+		this.store = store;
+		this.save = save;
+		this.coinKey = username() + COIN_COUNT;
+		this.highScoreKey = username() + HIGH_SCORE;
+		
+		if (save != null) {
+			coinField = save.field(COIN_COUNT.substring(1));
+			highScoreField = save.field(HIGH_SCORE.substring(1));
+			if (save.isNew())
+				migrateToSave();
+		} else
+			coinField = highScoreField = -1;
 	}
 	
 	/** @return the User's highest score. */
 	public int highScore() {
-		return preferences().getInteger(username() + HIGH_SCORE);
+		if (save != null)
+			return save.get(highScoreField);
+		return store().getInteger(highScoreKey);
 	}
 	
 	/** @return the number of jbs coins that the User has. */
 	public int jbsCoins() {
-		return preferences().getInteger(username() + COIN_COUNT);
+		if (save != null)
+			return save.get(coinField);
+		return store().getInteger(coinKey);
 	}
 	
 	/** @return the number of the specified trap that the User has.
 	 * @param trap The Trap to check the User's stock of. */
 	public int stockOf(Trap<?> trap) {
-		return preferences().getInteger(username() + TRAP_STOCK + ":" + trap.trapName());
+		if (save != null)
+			return save.get(stockField(trap.trapName()));
+		return store().getInteger(stockKey(trap.trapName()));
 	}
 	
 	/** Set the User's stock of the specified Trap. */
 	public void setStock(Trap<?> trap, int newStock) {
-		preferences().putInteger(username() + TRAP_STOCK + ":" + trap.trapName(), newStock);
-		save();
+		if (save != null)
+			save.set(stockField(trap.trapName()), newStock);
+		else
+			store().putInteger(stockKey(trap.trapName()), newStock);
 	}
 	
 	/** Set the User's High Score. */
 	public void setHighScore(int newScore) {
-		preferences().putInteger(username() + HIGH_SCORE, newScore);
-		save();
+		if (save != null)
+			save.set(highScoreField, newScore);
+		else
+			store().putInteger(highScoreKey, newScore);
 	}
 	
 	/** Set the number of coins that User has. */
 	public void setCoinCount(int newCount) {
-		preferences().putInteger(username() + COIN_COUNT, newCount);
-		save();
+		if (save != null)
+			save.set(coinField, newCount);
+		else
+			store().putInteger(coinKey, newCount);
 	}
 	
 	/** Add n number of coins to the User's account. */
 	public final void addCoins(int coinsToAdd) {
-		setCoinCount(jbsCoins() + coinsToAdd);
-		
-		if (jbsCoins() < 0)
+		final int newCount = jbsCoins() + coinsToAdd;
+		if (newCount < 0)
 			throw new RuntimeException("User cannot have a negative number of jbs coins.");
+		
+		setCoinCount(newCount);
 	}
 	
 	/** Remove n number of coins from the User's account. */
@@ -68,18 +110,92 @@ public class User {
 		addCoins(-coinsToRemove);
 	}
 	
-	/** Save the preferences to disk. */
+	/** Spend the coins on the number of the Trap. The coins and the stock are saved together,
+	 * so the coins can never be spent without the Traps being given.
+	 * @return false if the User cannot afford the Traps, in which case nothing is changed. */
+	public final boolean buy(Trap<?> trap, int numberOfTraps, int cost) {
+		if (jbsCoins() < cost)
+			return false;
+		
+		if (save != null)
+			save.begin()
+				.add(coinField, -cost)
+				.add(stockField(trap.trapName()), numberOfTraps)
+				.commit();
+		else {
+			// The store writes both values in the same batch.
+			removeCoins(cost);
+			setStock(trap, stockOf(trap) + numberOfTraps);
+		}
+		return true;
+	}
+	
+	/** Save the preferences to disk now, rather than waiting for the store to write them in the background. */
 	public void save() {
-		preferences().flush();
+		store().flush();
+		if (save != null)
+			save.flush();
 	}
 	
-	/** @return the Preferences that User data is saved to. */
-	protected Preferences preferences() {
-		return preferences;
+	/** Save the User's data and release the SaveFile. The User must not be used after it is disposed. */
+	public void dispose() {
+		save();
+		if (save != null)
+			save.dispose();
+	}
+	
+	/** @return the User's unique ID. */
+	public int id() {
+		return ID;
+	}
+	
+	/** @return the store that User data is saved to. */
+	protected PreferenceStore store() {
+		return store;
 	}
 	
 	/** @return the User's name, a unique string that can be used to store data to. */
 	protected String username() {
 		return "User_" + ID;
 	}
-}
\ No newline at end of file
+	
+	/** @return the User's key in the store for their stock of the Trap with the name. */
+	private String stockKey(String trapName) {
+		String key = stockKeys.get(trapName);
+		if (key == null) {
+			key = username() + TRAP_STOCK + ":" + trapName;
+			stockKeys.put(trapName, key);
+		}
+		return key;
+	}
+	
+	/** @return the id of the field holding the User's stock of the Trap with the name. */
+	private int stockField(String trapName) {
+		Integer field = stockFields.get(trapName);
+		if (field == null) {
+			field = save.field(TRAP_STOCK.substring(1) + ":" + trapName);
+			stockFields.put(trapName, field);
+		}
+		return field;
+	}
+	
+	/** Move the values the User saved to the store before the SaveFile existed into the SaveFile.
+	 * The old keys are left in the store, so an older version of the Game can still read them. */
+	private void migrateToSave() {
+		final String stockPrefix = username() + TRAP_STOCK + ":";
+		final SaveFile.Transaction migration = save.begin()
+			.set(coinField, store().getInteger(coinKey))
+			.set(highScoreField, store().getInteger(highScoreKey));
+		
+		int migratedStocks = 0;
+		for (String key : store().preferences().get().keySet())
+			if (key.startsWith(stockPrefix)) {
+				migration.set(stockField(key.substring(stockPrefix.length())), store().getInteger(key));
+				migratedStocks ++;
+			}
+		migration.commit();
+		save.compact();
+		
+		System.out.println("Migrated " + username() + "'s coins, high score and " + migratedStocks + " trap stocks into the SaveFile.");
+	}
+}
@@ -0,0 +1,189 @@
+package com.jbs.swipe.benchmark;
+
+import java.util.ArrayList;
+
+import com.jbs.swipe.Clock;
+import com.jbs.swipe.Game;
+import com.jbs.swipe.TouchEvent;
+import com.jbs.swipe.TouchInput;
+import com.jbs.swipe.TouchManager;
+import com.jbs.swipe.levels.LevelState;
+import com.jbs.swipe.simulation.ScriptedInput;
+import com.jbs.swipe.simulation.SimulatedClock;
+import com.jbs.swipe.tiles.Direction;
+import com.jbs.swipe.tiles.SwipeTile;
+import com.jbs.swipe.tiles.TileGrid;
+
+/**
+ * Checks that a screen of SwipeTiles being swiped allocates nothing, so a Level full of Tiles makes no garbage every
+ * frame. The touches are injected into a TouchInput and follow the Level's path through a TouchManager, its TileGrid
+ * and SwipeRecognizer to the SwipeTiles, which are then updated and rendered like the Level does. Like the Benchmarks
+ * it needs a created Game with its assets loaded, so it is run from inside the Game with AllocationCheck.run().
+ *
+ * A finger sweeps across each row of Tiles in turn against their arrows, so every Tile it crosses begins, advances and
+ * expires a combo-swipe that is judged incorrect and ignored. The Tiles never change state, so the sounds and
+ * animations of a Tile's reaction, which are made once per Tile rather than every frame, are not measured.
+ *
+ * Allocations are counted per thread by the AllocationCounter, so other threads and garbage collections do not
+ * disturb the count, and every measured run must allocate nothing.
+ */
+public final class AllocationCheck {
+	
+	public static final int
+		COLUMNS = 6, // 6 by 4 SwipeTiles, about the most a Level shows at once.
+		ROWS = 4,
+		WARMUP_FRAMES = 600, // Frames run before measuring, so lazily built state and the JIT have settled.
+		FRAMES = 3000, // Frames measured in each run.
+		RUNS = 5;
+	
+	private static final float
+		FRAME_TIME = 1000f / 60f,
+		SWEEP_SPEED = 2f; // The speed of the finger in pixels per millisecond.
+	
+	private final Game game;
+	private final AllocationCounter counter;
+	private final SimulatedClock clock = new SimulatedClock();
+	private final ScriptedInput input = new ScriptedInput();
+	private final TouchInput touches;
+	private final TouchManager touchManager = new TouchManager(4);
+	private final TileGrid tileIndex;
+	private final ArrayList<SwipeTile> tiles = new ArrayList<SwipeTile>();
+	private CountingBatch batch;
+	/* The bytes that reading the AllocationCounter allocates, taken off every run's count. */
+	private long readingBytes;
+	
+	/* The finger's sweep along the row of Tiles. */
+	private boolean fingerIsDown;
+	private int sweepRow = -1;
+	/* The frames of the run that had Swipes in progress. */
+	private int swipingFrames;
+	private float sweepX, sweepY;
+	
+	private AllocationCheck(Game game, AllocationCounter counter) {
+		this.game = game;
+		this.counter = counter;
+		this.touches = new TouchInput(game.screenWidth(), game.screenHeight());
+		this.tileIndex = new TileGrid(game.screenWidth(), game.screenHeight(), LevelState.TILE_INDEX_CELL_SIZE);
+	}
+	
+	/**
+	 * Swipe a screen of SwipeTiles and check that they allocate nothing. The Game's time source and TouchInput are
+	 * restored and the Tiles returned to the pool when the check is over. Throws a RuntimeException if any run allocated.
+	 * @param counter Counts the bytes allocated by the thread, such as the swipe-tools project's ThreadAllocationCounter.
+	 * @return the number of bytes allocated per frame, which is 0.
+	 */
+	public static long run(Game game, AllocationCounter counter) {
+		return new AllocationCheck(game, counter).check();
+	}
+	
+	private long check() {
+		final Clock realClock = game.clock().source();
+		final TouchInput realTouches = game.touchInput();
+		game.setClock(clock);
+		game.setTouchInput(touches);
+		batch = new CountingBatch();
+		try {
+			setUp();
+			for (int i = 0; i != WARMUP_FRAMES; i ++)
+				frame();
+			
+			final long reading = counter.allocatedBytes();
+			readingBytes = counter.allocatedBytes() - reading;
+			
+			for (int run = 0; run != RUNS; run ++) {
+				swipingFrames = 0;
+				final long bytes = measure();
+				if (bytes != 0)
+					throw new RuntimeException("Error in AllocationCheck : " + tiles.size() + " SwipeTiles allocated " + bytes
+						+ " bytes over " + FRAMES + " frames (~" + (bytes / FRAMES) + " bytes/frame) in run " + (run + 1) + " of " + RUNS + ".");
+				if (swipingFrames == 0)
+					throw new RuntimeException("Error in AllocationCheck : The finger did not swipe any SwipeTiles.");
+			}
+			
+			System.out.println("AllocationCheck passed, " + tiles.size() + " SwipeTiles allocated nothing over " + RUNS + " runs of "
+				+ FRAMES + " frames (" + batch.draws() + " draws, " + swipingFrames + " frames swiping in the last run).");
+			return 0;
+		} finally {
+			touchManager.recognizer().reset();
+			for (int i = 0; i != tiles.size(); i ++)
+				game.tilePool().release(tiles.get(i));
+			tiles.clear();
+			touches.beginFrame();
+			batch.dispose();
+			game.setTouchInput(realTouches);
+			game.setClock(realClock);
+		}
+	}
+	
+	/** Lay the Tiles out in a grid and index them in the TileGrid like a Level does. Every other Tile slides across the
+	 * screen, so its bounds and cells keep changing. */
+	private void setUp() {
+		touchManager.setTileIndex(tileIndex);
+		for (int i = 0; i != COLUMNS * ROWS; i ++) {
+			// The finger sweeps to the right, against the Tiles' arrows.
+			final SwipeTile tile = game.tilePool().acquire(Float.MAX_VALUE, Direction.LEFT);
+			final float
+				x = game.screenWidth() * ((i % COLUMNS) + .5f) / COLUMNS,
+				y = rowY(i / COLUMNS);
+			tile.setPosition(x, y);
+			if (i % 2 == 0)
+				tile.setTranslationTarget(game.screenWidth() - x, y, .01f);
+			tileIndex.add(tile);
+			tiles.add(tile);
+		}
+	}
+	
+	/** @return the bytes the thread allocated over FRAMES frames. */
+	private long measure() {
+		final long start = counter.allocatedBytes();
+		for (int i = 0; i != FRAMES; i ++)
+			frame();
+		return counter.allocatedBytes() - start - readingBytes;
+	}
+	
+	/** Swipe, update and render every Tile for one frame, the way a Level does. */
+	private void frame() {
+		clock.advance(FRAME_TIME);
+		game.clock().tick();
+		
+		sweep(clock.nanoTime());
+		touches.beginFrame();
+		touchManager.update(touches);
+		if (touchManager.recognizer().swipesAlong(0) != 0)
+			swipingFrames ++;
+		
+		for (int i = 0; i != tiles.size(); i ++) {
+			final SwipeTile tile = tiles.get(i);
+			tile.updateWith(input);
+			tile.renderTo(batch);
+		}
+		input.endFrame();
+	}
+	
+	/** Inject this frame's touches of the finger, which sweeps along each row of Tiles in turn from off the left of the
+	 * screen to off the right. */
+	private void sweep(long time) {
+		if (!fingerIsDown) {
+			sweepRow = (sweepRow + 1) % ROWS;
+			sweepX = -game.screenWidth() / 2f;
+			sweepY = rowY(sweepRow);
+			touches.inject(TouchEvent.DOWN, 0, sweepX, sweepY, time);
+			fingerIsDown = true;
+		} else if (sweepX > game.screenWidth() * 1.5f) {
+			touches.inject(TouchEvent.UP, 0, sweepX, sweepY, time);
+			fingerIsDown = false;
+		} else {
+			// A fast finger moves more than once between frames.
+			final long halfFrame = (long) (FRAME_TIME * 1E6f / 2);
+			sweepX += SWEEP_SPEED * FRAME_TIME / 2;
+			touches.inject(TouchEvent.MOVE, 0, sweepX, sweepY, time - halfFrame);
+			sweepX += SWEEP_SPEED * FRAME_TIME / 2;
+			touches.inject(TouchEvent.MOVE, 0, sweepX, sweepY, time);
+		}
+	}
+	
+	/** @return the y-coordinate of the centers of the row of Tiles. */
+	private float rowY(int row) {
+		return game.screenHeight() * (row + .5f) / ROWS;
+	}
+}
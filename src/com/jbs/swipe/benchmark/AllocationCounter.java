@@ -0,0 +1,9 @@
+package com.jbs.swipe.benchmark;
+
+/** Counts the bytes the current thread has allocated, for the AllocationCheck. Only a desktop JVM can count them,
+ * so the counter is supplied by the desktop launcher, such as the swipe-tools project's ThreadAllocationCounter. */
+public interface AllocationCounter {
+	
+	/** @return the bytes allocated by the current thread since it started, only meaningful relative to another reading. */
+	long allocatedBytes();
+}
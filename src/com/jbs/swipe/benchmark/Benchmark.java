@@ -0,0 +1,46 @@
+package com.jbs.swipe.benchmark;
+
+public abstract class Benchmark {
+	
+	private final String name;
+	/* Results are folded into the sink so the JIT cannot discard the work being measured. */
+	private int sink;
+	
+	/** Create a benchmark of a single operation, run repeatedly by a BenchmarkRunner. */
+	public Benchmark(String name) {
+		this.name = name;
+	}
+	
+	/** Prepare the state the operation works on. Called once before warming up. */
+	protected void setUp() { }
+	
+	/** Perform the operation being measured once. */
+	protected abstract void operation();
+	
+	/** Release the state the operation worked on. Called once after measuring. */
+	protected void tearDown() { }
+	
+	/** @return the name to report the Benchmark's results under. */
+	public final String name() {
+		return name;
+	}
+	
+	/** Keep the value alive so the operation that produced it is not optimized away. */
+	protected final void consume(int value) {
+		sink += value;
+	}
+	protected final void consume(float value) {
+		sink += Float.floatToIntBits(value);
+	}
+	protected final void consume(boolean value) {
+		sink += value? 1 : 0;
+	}
+	protected final void consume(Object value) {
+		sink += System.identityHashCode(value);
+	}
+	
+	/** @return the folded results of the Benchmark's operations. */
+	final int sink() {
+		return sink;
+	}
+}
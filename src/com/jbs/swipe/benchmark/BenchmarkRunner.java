@@ -0,0 +1,91 @@
+package com.jbs.swipe.benchmark;
+
+public class BenchmarkRunner {
+	
+	private int
+		warmupIterations = 5,
+		measurementIterations = 10,
+		operationsPerIteration = 1000;
+	
+	/** Set the number of untimed iterations run before measuring, so the JIT has compiled the operation. */
+	public void setWarmupIterations(int iterations) {
+		this.warmupIterations = iterations;
+	}
+	
+	/** Set the number of timed iterations. */
+	public void setMeasurementIterations(int iterations) {
+		if (iterations <= 0)
+			throw new RuntimeException("Measurement iterations must be > 0");
+		this.measurementIterations = iterations;
+	}
+	
+	/** Set the number of operations run in each iteration. */
+	public void setOperationsPerIteration(int operations) {
+		if (operations <= 0)
+			throw new RuntimeException("Operations per iteration must be > 0");
+		this.operationsPerIteration = operations;
+	}
+	
+	/** Warm up and then measure the Benchmark.
+	 * @return the average, fastest and slowest iteration in nanoseconds per operation. */
+	public Result run(Benchmark benchmark) {
+		benchmark.setUp();
+		try {
+			for (int iteration = 0; iteration != warmupIterations; iteration ++)
+				runIteration(benchmark);
+			
+			final Result result = new Result(benchmark.name());
+			double total = 0;
+			for (int iteration = 0; iteration != measurementIterations; iteration ++) {
+				final double nanosPerOperation = (double) runIteration(benchmark) / operationsPerIteration;
+				total += nanosPerOperation;
+				result.fastest = Math.min(result.fastest, nanosPerOperation);
+				result.slowest = Math.max(result.slowest, nanosPerOperation);
+			}
+			result.average = total / measurementIterations;
+			result.sink = benchmark.sink();
+			
+			return result;
+		} finally {
+			benchmark.tearDown();
+		}
+	}
+	
+	/** Run every Benchmark and print a line of results for each. */
+	public Result[] runAll(Benchmark... benchmarks) {
+		final Result[] results = new Result[benchmarks.length];
+		for (int i = 0; i != benchmarks.length; i ++) {
+			results[i] = run(benchmarks[i]);
+			System.out.println(results[i]);
+		}
+		return results;
+	}
+	
+	/** @return the nanoseconds taken to run one iteration of the Benchmark. */
+	private long runIteration(Benchmark benchmark) {
+		final long startTime = System.nanoTime();
+		for (int operation = 0; operation != operationsPerIteration; operation ++)
+			benchmark.operation();
+		return System.nanoTime() - startTime;
+	}
+	
+	/** The measurements of a Benchmark. */
+	public static class Result {
+		
+		public final String name;
+		public double
+			average,
+			fastest = Double.MAX_VALUE,
+			slowest = 0;
+		int sink;
+		
+		Result(String name) {
+			this.name = name;
+		}
+		
+		@Override
+		public String toString() {
+			return name + " : " + (long) average + " ns/op (fastest " + (long) fastest + ", slowest " + (long) slowest + ")";
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.jbs.swipe.benchmark;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/** A SpriteBatch that only counts what is drawn to it, so rendering code can be measured
+ * without the cost of the GPU. Every draw overload is counted rather than batched, so
+ * nothing ever reaches the Batch's vertices or the GPU. */
+public class CountingBatch extends SpriteBatch {
+	
+	private int draws;
+	
+	public CountingBatch() {
+		// The Batch never batches a sprite, so it only needs room for a single one.
+		super(1);
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+			float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+			int srcHeight, boolean flipX, boolean flipY) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		draws ++;
+	}
+	
+	/** Sprites, BitmapFonts and ParticleEffects draw their vertices with this overload. */
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int length) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+			float scaleX, float scaleY, float rotation) {
+		draws ++;
+	}
+	
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+			float scaleX, float scaleY, float rotation, boolean clockwise) {
+		draws ++;
+	}
+	
+	/** Nothing is ever batched, so there is nothing to render. */
+	@Override
+	public void flush() { }
+	
+	/** @return the number of draw calls made since the Batch was created or last reset. */
+	public int draws() {
+		return draws;
+	}
+	
+	/** Reset the draw call counter. */
+	public void resetDraws() {
+		draws = 0;
+	}
+}
@@ -0,0 +1,284 @@
+package com.jbs.swipe.benchmark;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.math.Vector2;
+import com.jbs.swipe.Game;
+import com.jbs.swipe.Swipe;
+import com.jbs.swipe.SwipePath;
+import com.jbs.swipe.effects.Animator;
+import com.jbs.swipe.gui.Font;
+import com.jbs.swipe.levels.formation.TileLines;
+import com.jbs.swipe.levels.formation.TileLines.Dimension;
+import com.jbs.swipe.levels.formation.TileSpiral;
+import com.jbs.swipe.levels.formation.TileStorm;
+import com.jbs.swipe.tiles.Row;
+import com.jbs.swipe.tiles.RowController;
+import com.jbs.swipe.tiles.SwipeTile;
+import com.jbs.swipe.tiles.SwipeTile.TileState;
+import com.jbs.swipe.tiles.TileListener;
+
+/**
+ * The Benchmarks for the Game's hot paths. They need a created Game with its assets loaded, since
+ * SwipeTiles and Fonts are built from loaded Textures, so they are run from inside the Game with
+ * SwipeBenchmarks.run(game) rather than as a separate program.
+ */
+public final class SwipeBenchmarks {
+	
+	private static final int
+		ROW_SIZE = 6,
+		FORMATION_SIZE = 500,
+		ANIMATED_TILES = 2000,
+		FITTED_SAMPLES = 16;
+	
+	/* Formations and Rows report their Tiles' events to a listener, the benchmarks ignore them. */
+	private static final TileListener IGNORE_TILE_EVENTS = new TileListener() {
+		@Override
+		public void recieveTileStateChange(SwipeTile tile, TileState oldState, TileState newState) { }
+	};
+	
+	private SwipeBenchmarks() { }
+	
+	/** Run all the benchmarks with a default BenchmarkRunner and print their results. */
+	public static BenchmarkRunner.Result[] run(Game game) {
+		return new BenchmarkRunner().runAll(all(game));
+	}
+	
+	/** @return all the Game's benchmarks. */
+	public static Benchmark[] all(Game game) {
+		return new Benchmark[] {
+			rowCollapse(game),
+			rowExpandContract(game),
+			rowControllerWidth(game),
+			swipeCheckAngle(),
+			swipeFit(),
+			tileSpiral(game),
+			tileLines(game),
+			tileStorm(game),
+			fontRenderInteger(game),
+			tweenManagerUpdate(game),
+		};
+	}
+	
+	public static Benchmark rowCollapse(final Game game) {
+		return new Benchmark("Row.collapseTile") {
+			Row row;
+			@Override
+			protected void setUp() {
+				row = new Row(game, IGNORE_TILE_EVENTS, game.screenCenter(), ROW_SIZE);
+			}
+			@Override
+			protected void operation() {
+				row.collapseTile(0);
+			}
+			@Override
+			protected void tearDown() {
+				releaseTiles(game, row);
+			}
+		};
+	}
+	
+	public static Benchmark rowExpandContract(final Game game) {
+		return new Benchmark("Row.expand + Row.contract") {
+			Row row;
+			@Override
+			protected void setUp() {
+				row = new Row(game, IGNORE_TILE_EVENTS, game.screenCenter(), ROW_SIZE);
+			}
+			@Override
+			protected void operation() {
+				row.expand();
+				row.contract();
+				consume(row.numberOfTiles());
+			}
+			@Override
+			protected void tearDown() {
+				releaseTiles(game, row);
+			}
+		};
+	}
+	
+	public static Benchmark rowControllerWidth(final Game game) {
+		return new Benchmark("RowController.intendedRowWidth") {
+			TestController controller;
+			int score;
+			@Override
+			protected void setUp() {
+				controller = new TestController(new Row(game, IGNORE_TILE_EVENTS, game.screenCenter(), ROW_SIZE));
+				controller.setStartingRowSize(3);
+				controller.setMaximumRowSize(6);
+				controller.setExpansionInerval(25);
+				controller.setExpansionOffset(5);
+			}
+			@Override
+			protected void operation() {
+				// Sweep through the scores a long game reaches.
+				score = (score + 1) % 2000;
+				consume(controller.intendedRowWidth(score));
+			}
+			@Override
+			protected void tearDown() {
+				releaseTiles(game, controller.row());
+			}
+		};
+	}
+	
+	public static Benchmark swipeCheckAngle() {
+		return new Benchmark("Swipe.checkAngle") {
+			Swipe swipe;
+			float requiredAngle;
+			@Override
+			protected void setUp() {
+				final SwipePath path = new SwipePath(0);
+				path.begin(1, 0, 0, 0);
+				swipe = new Swipe(path, 0, 0, 0, false, SwipeTile.DEFAULT_SWIPE_MAGNITUDE);
+				path.add(15, 5, 8000000L);
+				swipe.advance();
+				path.add(30, 10, 16000000L);
+				swipe.advance();
+			}
+			@Override
+			protected void operation() {
+				requiredAngle = (requiredAngle + 90) % 360;
+				consume(swipe.checkAngle(requiredAngle, 70));
+			}
+		};
+	}
+	
+	public static Benchmark swipeFit() {
+		return new Benchmark("Swipe fitted over " + FITTED_SAMPLES + " samples") {
+			final SwipePath path = new SwipePath(0);
+			@Override
+			protected void operation() {
+				// A flick that wobbles from side to side, sampled every 4 milliseconds and never reaching the required magnitude.
+				path.begin(1, 0, 0, 0);
+				final Swipe swipe = new Swipe(path, 0, 0, 0, false, SwipeTile.DEFAULT_SWIPE_MAGNITUDE);
+				for (int sample = 1; sample != FITTED_SAMPLES; sample ++) {
+					path.add(sample, (sample % 2) * 2, sample * 4000000L);
+					swipe.advance();
+				}
+				consume(swipe.swipeAngle());
+				path.end();
+			}
+		};
+	}
+	
+	public static Benchmark tileSpiral(final Game game) {
+		return new FormationBenchmark(game, "TileSpiral.create(" + FORMATION_SIZE + ")") {
+			@Override
+			protected SwipeTile[] create() {
+				return new TileSpiral(game, IGNORE_TILE_EVENTS, FORMATION_SIZE).create();
+			}
+		};
+	}
+	
+	public static Benchmark tileLines(final Game game) {
+		return new FormationBenchmark(game, "TileLines.create(" + FORMATION_SIZE + ")") {
+			@Override
+			protected SwipeTile[] create() {
+				return new TileLines(game, IGNORE_TILE_EVENTS, FORMATION_SIZE, Dimension.HORIZONTAL).create();
+			}
+		};
+	}
+	
+	public static Benchmark tileStorm(final Game game) {
+		return new FormationBenchmark(game, "TileStorm.create(" + FORMATION_SIZE + ")") {
+			@Override
+			protected SwipeTile[] create() {
+				return new TileStorm(game, IGNORE_TILE_EVENTS, FORMATION_SIZE).create();
+			}
+		};
+	}
+	
+	public static Benchmark fontRenderInteger(final Game game) {
+		return new Benchmark("Font.renderIntegerTo") {
+			Font font;
+			CountingBatch batch;
+			int integer;
+			@Override
+			protected void setUp() {
+				font = new Font(game.digitGlyphs("assets/GUI/Font/Digits.png"));
+				batch = new CountingBatch();
+			}
+			@Override
+			protected void operation() {
+				integer = (integer + 7919) % 10000000;
+				font.renderIntegerTo(batch, integer, 0, 0);
+			}
+			@Override
+			protected void tearDown() {
+				consume(batch.draws());
+				batch.dispose();
+			}
+		};
+	}
+	
+	public static Benchmark tweenManagerUpdate(final Game game) {
+		return new Benchmark("TweenManager.update (" + ANIMATED_TILES + " tiles)") {
+			final ArrayList<SwipeTile> tiles = new ArrayList<SwipeTile>();
+			@Override
+			protected void setUp() {
+				for (int i = 0; i != ANIMATED_TILES; i ++) {
+					final SwipeTile tile = game.tilePool().acquire(Float.MAX_VALUE);
+					tiles.add(tile);
+					// Long enough that none of the Tweens finish while being measured.
+					new Animator(game)
+						.spinTile(tile, 1, 1E9f)
+						.fadeTileAway(tile, 1E9f)
+						.swipeTileAway(tile, new Vector2(1, 1), 1E9f);
+				}
+			}
+			@Override
+			protected void operation() {
+				game.tweenManager().update(16);
+			}
+			@Override
+			protected void tearDown() {
+				for (SwipeTile tile : tiles)
+					game.tilePool().release(tile);
+				tiles.clear();
+			}
+		};
+	}
+	
+	/** Return the Row's Tiles to the pool, so the next setUp() acquires them again rather than missing the pool. */
+	private static void releaseTiles(Game game, Row row) {
+		for (SwipeTile tile : row.tiles())
+			if (tile != null)
+				game.tilePool().release(tile);
+	}
+	
+	/** Measures the creation of a Formation, returning its Tiles to the pool after every operation. */
+	private static abstract class FormationBenchmark extends Benchmark {
+		
+		private final Game game;
+		
+		FormationBenchmark(Game game, String name) {
+			super(name);
+			this.game = game;
+		}
+		
+		protected abstract SwipeTile[] create();
+		
+		@Override
+		protected void operation() {
+			final SwipeTile[] tiles = create();
+			consume(tiles.length);
+			for (SwipeTile tile : tiles)
+				game.tilePool().release(tile);
+		}
+	}
+	
+	/** Exposes the RowController's width computation to the benchmark. */
+	private static class TestController extends RowController {
+		
+		TestController(Row row) {
+			super(row);
+		}
+		
+		@Override
+		protected int intendedRowWidth(int score) {
+			return super.intendedRowWidth(score);
+		}
+	}
+}
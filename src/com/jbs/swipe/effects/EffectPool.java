@@ -0,0 +1,131 @@
+package com.jbs.swipe.effects;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.jbs.swipe.Assets;
+
+public class EffectPool {
+
+	/** The maximum number of unused ParticleEffects to keep, extra released effects are left for the garbage collector. */
+	public static final int MAXIMUM_FREE_EFFECTS = 16;
+
+	private final String source, imagesDirectory;
+	/* The effect that is loaded from the source, every acquired effect is a copy of it. */
+	private ParticleEffect prototype;
+	/* The ParticleEffects that are ready to be reused. */
+	private final ArrayList<ParticleEffect> freeEffects;
+
+	private int
+		hits, // The number of effects that were reused.
+		misses, // The number of effects that had to be copied from the prototype.
+		inUse, // The number of effects acquired and not yet released.
+		peakInUse; // The largest number of effects that have been in use at once.
+
+	/**
+	 * Create a pool of the ParticleEffect in the source file. The effect's file is read and its images are loaded
+	 * through Assets once, the first time the pool is used, then every acquired effect shares them.
+	 * @param imagesDirectory The directory holding the effect's images.
+	 */
+	public EffectPool(String source, String imagesDirectory) {
+		this.source = source;
+		this.imagesDirectory = imagesDirectory;
+		this.freeEffects = new ArrayList<ParticleEffect>();
+	}
+
+	/** @return a started ParticleEffect with no particles. */
+	public ParticleEffect acquire() {
+		final ParticleEffect effect;
+		if (freeEffects.isEmpty()) {
+			misses ++;
+			effect = new ParticleEffect(prototype());
+		} else {
+			hits ++;
+			effect = freeEffects.remove(freeEffects.size() - 1);
+		}
+
+		inUse ++;
+		peakInUse = Math.max(peakInUse, inUse);
+
+		// Restart the effect, clearing the particles from it's last use.
+		effect.reset();
+		return effect;
+	}
+
+	/** Return the ParticleEffect to the pool. It must not be used again until it is re-acquired. */
+	public void release(ParticleEffect effect) {
+		if (freeEffects.contains(effect))
+			throw new RuntimeException("Cannot release a ParticleEffect that is already in the pool.");
+
+		inUse --;
+		if (freeEffects.size() < MAXIMUM_FREE_EFFECTS)
+			freeEffects.add(effect);
+	}
+
+	/** Load the effect now, so the first acquire() during gameplay does not read from disk. */
+	public void preload() {
+		prototype();
+	}
+
+	/** @return the effect that acquired effects are copied from, loading it if it has not been yet. Do not modify it. */
+	public ParticleEffect prototype() {
+		if (prototype == null) {
+			prototype = new ParticleEffect();
+			prototype.loadEmitters(Gdx.files.internal(source));
+			// Take the emitters' images from the Assets, rather than loading a Texture for every effect.
+			for (ParticleEmitter emitter : prototype.getEmitters())
+				emitter.setSprite(new Sprite(Assets.getOrLoadTexture(imagesDirectory + "/" + imageNameOf(emitter))));
+		}
+		return prototype;
+	}
+
+	/** Discard all the unused ParticleEffects. */
+	public void clear() {
+		freeEffects.clear();
+	}
+
+	/** @return the effect file the pool's effects are loaded from. */
+	public String source() {
+		return source;
+	}
+
+	/** @return the number of ParticleEffects waiting to be reused. */
+	public int free() {
+		return freeEffects.size();
+	}
+
+	/** @return the number of acquired ParticleEffects that were reused. */
+	public int hits() {
+		return hits;
+	}
+
+	/** @return the number of acquired ParticleEffects that had to be copied from the prototype. */
+	public int misses() {
+		return misses;
+	}
+
+	/** @return the number of ParticleEffects that have been acquired and not released. */
+	public int inUse() {
+		return inUse;
+	}
+
+	/** @return the largest number of ParticleEffects that have been in use at once. */
+	public int peakInUse() {
+		return peakInUse;
+	}
+
+	@Override
+	public String toString() {
+		return source + " : " + inUse + " in use (peak " + peakInUse + "), " + freeEffects.size() + " free, "
+			+ hits + " hits, " + misses + " misses";
+	}
+
+	/** @return the file name of the emitter's image, which may have been saved with a path from the editor's machine. */
+	private static String imageNameOf(ParticleEmitter emitter) {
+		final String path = emitter.getImagePath().replace('\\', '/');
+		return path.substring(path.lastIndexOf('/') + 1);
+	}
+}
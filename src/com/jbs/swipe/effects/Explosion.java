@@ -1,19 +1,23 @@
 package com.jbs.swipe.effects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.jbs.framework.io.InputProxy;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.util.Updatable;
+import com.jbs.swipe.Game;
 
 public class Explosion implements Renderable, Updatable {
 	
-	private static final String
+	public static final String
 		SOURCE = "assets/ParticleEffects/Explosion.fx",
 		IMAGES = "assets/ParticleEffects/Images";
 	
-	protected final ParticleEffect particleEffect;
+	private final EffectPool pool;
+	/** The effect from the pool while the Explosion is exploding, otherwise null. */
+	protected ParticleEffect particleEffect;
+	
+	private float x, y;
 	
 	private final float
 		DEFAULT_UPDATE_DELTA = 0.1f;
@@ -21,7 +25,7 @@ public class Explosion implements Renderable, Updatable {
 	private boolean
 		/** True if we are exploding. */
 		exploding = false;
-	/** The amount to update the particle effect each update. */
+	/** The amount to update the particle effect each fixed step. */
 	private float
 		updateDelta = DEFAULT_UPDATE_DELTA;
 	
@@ -29,9 +33,7 @@ public class Explosion implements Renderable, Updatable {
 	 * @param source The Explosion's particle effect file.
 	 * @param autoStart True if the explosion should begin immediately. */
 	public Explosion(String source) {
-		particleEffect = new ParticleEffect();
-		particleEffect.load(Gdx.files.internal(source), Gdx.files.internal(IMAGES));
-		particleEffect.start();
+		pool = Game.game.effectPool(source, IMAGES);
 	}
 	
 	/** Create and automatically start an explosion. */
@@ -47,24 +49,28 @@ public class Explosion implements Renderable, Updatable {
 	
 	@Override
 	public void updateWith(InputProxy input) {
-		particleEffect.update(updateDelta);
+		if (particleEffect == null)
+			return;
+		
+		// The update delta is tuned per fixed step, advance by every step that has passed this frame.
+		particleEffect.update(updateDelta * Game.game.clock().steps());
 		
 		if (particleEffect.isComplete())
-			exploding = false;
+			reset();
 	}
 	
 	public float duration() {
-		return particleEffect.getEmitters().get(0).duration;
+		return pool.prototype().getEmitters().get(0).duration;
 	}
 	
 	/** @return the x-component of the position of the Explosion. */
 	public float x() {
-		return particleEffect.getEmitters().get(0).getX();
+		return x;
 	}
 	
 	/** @return the y-component of the position of the Explosion. */
 	public float y() {
-		return particleEffect.getEmitters().get(0).getY();
+		return y;
 	}
 	
 	/** @return true if the Explosion is exploding. */
@@ -72,16 +78,25 @@ public class Explosion implements Renderable, Updatable {
 		return exploding;
 	}
 	
-	/** Reset the Explosion. Does not reset the Explosion's position */
+	/** Reset the Explosion, returning it's effect to the pool. Does not reset the Explosion's position */
 	public Explosion reset() {
 		exploding = false;
+		if (particleEffect != null) {
+			pool.release(particleEffect);
+			particleEffect = null;
+		}
 		return this;
 	}
 	
 	/** Begin the explosion. */
 	public Explosion explode() {
 		exploding = true;
-		particleEffect.reset();
+		// Take an effect from the pool for as long as the Explosion lasts, or restart the one it has.
+		if (particleEffect == null)
+			particleEffect = pool.acquire();
+		else
+			particleEffect.reset();
+		particleEffect.setPosition(x, y);
 		return this;
 	}
 	
@@ -102,7 +117,10 @@ public class Explosion implements Renderable, Updatable {
 	
 	/** Set the position of the Explosion. */
 	public Explosion setPosition(float x, float y) {
-		particleEffect.setPosition(x, y);
+		this.x = x;
+		this.y = y;
+		if (particleEffect != null)
+			particleEffect.setPosition(x, y);
 		return this;
 	}
 }
\ No newline at end of file
@@ -17,6 +17,9 @@ public abstract class ScoreChange implements Renderable {
 	
 	private long startTime, nextScoreChangeTime, scoreChangeInterval = 100;
 	private Vector2 startPosition, endPosition;
+	/* Reused for the change and its position so rendering does not allocate. */
+	private final StringBuilder text = new StringBuilder();
+	private final Vector2 position = new Vector2();
 	private float animationDuration;
 	
 	public ScoreChange(LevelState level, Vector2 position, int change) {
@@ -26,9 +29,9 @@ public abstract class ScoreChange implements Renderable {
 		this.change = change;
 		this.font = new ShopFont();
 		font.setColor((change > 0)? Color.GREEN : Color.RED);
-		this.startTime = System.currentTimeMillis();
+		this.startTime = level.game().clock().time();
 		
-		nextScoreChangeTime = System.currentTimeMillis() + scoreChangeInterval;
+		nextScoreChangeTime = startTime + scoreChangeInterval;
 	}
 	
 	public ScoreChange fling(Vector2 direction, float speed) {
@@ -39,10 +42,15 @@ public abstract class ScoreChange implements Renderable {
 	
 	@Override
 	public void renderTo(SpriteBatch batch) {
-		font.draw(batch, "" + Math.abs(change), startPosition.cpy().add((deltaTime() / animationDuration)*(endPosition.x - startPosition.x), (deltaTime() / animationDuration)*(endPosition.y - startPosition.y)));
+		final float progress = deltaTime() / animationDuration;
+		position.set(startPosition).add(progress*(endPosition.x - startPosition.x), progress*(endPosition.y - startPosition.y));
+		text.setLength(0);
+		text.append(Math.abs(change));
+		font.draw(batch, text, position);
 		
-		if (System.currentTimeMillis() > nextScoreChangeTime) {
-			nextScoreChangeTime = System.currentTimeMillis() + scoreChangeInterval;
+		final long currentTime = level.game().clock().time();
+		if (currentTime > nextScoreChangeTime) {
+			nextScoreChangeTime = currentTime + scoreChangeInterval;
 			if (change < 0) {
 				level.score().decrement();
 				if (level.score().count() == 0)
@@ -60,6 +68,6 @@ public abstract class ScoreChange implements Renderable {
 	public abstract void remove();
 	
 	protected final float deltaTime() {
-		return (System.currentTimeMillis() - startTime);
+		return (level.game().clock().time() - startTime);
 	}
 }
\ No newline at end of file
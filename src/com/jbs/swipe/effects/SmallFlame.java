@@ -1,18 +1,20 @@
 package com.jbs.swipe.effects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.jbs.framework.io.InputProxy;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.util.Updatable;
+import com.jbs.swipe.Game;
 
 public abstract class SmallFlame implements Renderable, Updatable {
 	
-	private static final String
+	public static final String
 		SOURCE = "assets/ParticleEffects/SmallFlame.fx",
 		IMAGES = "assets/ParticleEffects/Images";
 	
+	private final EffectPool pool;
+	/** The effect from the pool while the Flame is lit, otherwise null. */
 	private ParticleEffect effect;
 	
 	/** True when the Flame is lit. */
@@ -21,14 +23,12 @@ public abstract class SmallFlame implements Renderable, Updatable {
 	/** The time when the Flame began spawning particles. */
 	private long startTime;
 	
-	/** The amount to update the particle effect each update. */
+	/** The amount to update the particle effect each fixed step. */
 	private float updateDelta = .1f;
 	
 	public SmallFlame() {
-		effect = new ParticleEffect();
-		effect.load(Gdx.files.internal(SOURCE), Gdx.files.internal(IMAGES));
-		effect.start();
-		startTime = System.currentTimeMillis();
+		pool = Game.game.effectPool(SOURCE, IMAGES);
+		startTime = Game.game.clock().time();
 	}
 	
 	@Override
@@ -41,18 +41,26 @@ public abstract class SmallFlame implements Renderable, Updatable {
 	
 	@Override
 	public void updateWith(InputProxy input) {
-		effect.update(updateDelta);
+		if (effect != null)
+			effect.update(updateDelta * Game.game.clock().steps());
 	}
 	
-	/** Extinguish the Flame. */
+	/** Extinguish the Flame, returning it's effect to the pool. */
 	public final void extinguish() {
 		ignited = false;
+		if (effect != null) {
+			pool.release(effect);
+			effect = null;
+		}
 	}
 	
 	/** Light the Flame. */
 	public final void ignite() {
 		ignited = true;
-		startTime = System.currentTimeMillis();
+		// Take an effect from the pool for as long as the Flame is lit.
+		if (effect == null)
+			effect = pool.acquire();
+		startTime = Game.game.clock().time();
 	}
 	
 	/** @return true if the Flame is lit. */
@@ -65,11 +73,11 @@ public abstract class SmallFlame implements Renderable, Updatable {
 	
 	/** @return the number of seconds since the object was initialized. */
 	protected final float deltaTime() {
-		return (System.currentTimeMillis() - startTime) / 1000f;
+		return (Game.game.clock().time() - startTime) / 1000f;
 	}
 	
 	/** @return the duration of the Effect in seconds. */
 	protected final float duration() {
-		return effect.getEmitters().get(0).duration / 1000f;
+		return pool.prototype().getEmitters().get(0).duration / 1000f;
 	}
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ public abstract class CoinWindow implements Renderable {
 	
 	private Graphic window;
 	private ShopFont font;
+	/* Reused for the number of coins so rendering does not allocate. */
+	private final StringBuilder text = new StringBuilder();
 	
 	/** Create a utility for notifying the user of how many jbs coins he or she has. */
 	public CoinWindow(Game game) {
@@ -29,12 +31,12 @@ public abstract class CoinWindow implements Renderable {
 	public void renderTo(SpriteBatch batch) {
 		window.renderTo(batch);
 		
-		final String
-			text = coins() + "";
+		text.setLength(0);
+		text.append(coins());
 		final float
 			// The horizontal offset of the text.
 			leftMargin = -60f;
-		font.scaleToBounds(100f, 30f, coins()+"");
+		font.scaleToBounds(100f, 30f, text);
 		font.drawAt(batch, text, x() + leftMargin, y() + heightOf(text)/2 +10);
 	}
 	
@@ -63,12 +65,12 @@ public abstract class CoinWindow implements Renderable {
 	protected abstract int coins();
 	
 	/** @return the width in pixels of the text when it's rendered with the Window's Font. */
-	private float widthOf(String text) {
+	private float widthOf(CharSequence text) {
 		return font.getBounds(text).width;
 	}
 	
 	/** @return the height in pixels of the text when it's rendered with the Window's Font. */
-	private float heightOf(String text) {
+	private float heightOf(CharSequence text) {
 		return font.getBounds(text).height;
 	}
 }
\ No newline at end of file
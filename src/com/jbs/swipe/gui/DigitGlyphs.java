@@ -0,0 +1,74 @@
+package com.jbs.swipe.gui;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public final class DigitGlyphs {
+	
+	public static final int NUMBER_OF_DIGITS = 10;
+	
+	private final TextureRegion source;
+	private final TextureRegion[] digits = new TextureRegion[NUMBER_OF_DIGITS];
+	private final int digitWidth, digitHeight;
+	
+	/**
+	 * Create the ten digit regions of the source, which holds the digits 0 to 9 in sequential order in 1 row.
+	 * The regions are sliced once here, so drawing integers with them does not allocate.
+	 */
+	public DigitGlyphs(TextureRegion source) {
+		this.source = source;
+		// Digit width is equal to the (totalSourceWidth)/(numberOfDigitsPerRow)
+		this.digitWidth = source.getRegionWidth() / NUMBER_OF_DIGITS;
+		// Digit height is equal to the (totalSourceHeight)/(numberOfDigitsPerColumn)
+		this.digitHeight = source.getRegionHeight();
+		
+		for (int digit = 0; digit != NUMBER_OF_DIGITS; digit ++)
+			// Slice relative to the source region, which may be part of an atlas.
+			digits[digit] = new TextureRegion(source, digit * digitWidth, 0, digitWidth, digitHeight);
+	}
+	
+	/** Draw the non-negative integer's digits to the Batch from left to right, the most significant digit at (x, y).
+	 * @param width The width to draw each digit at.
+	 * @param height The height to draw each digit at. */
+	public void drawInteger(SpriteBatch batch, int integer, float x, float y, float width, float height) {
+		int divisor = 1;
+		for (int length = lengthOf(integer); length != 1; length --)
+			divisor *= 10;
+		
+		while (divisor != 0) {
+			batch.draw(digits[(integer / divisor) % 10], x, y, width, height);
+			x += width;
+			divisor /= 10;
+		}
+	}
+	
+	/** @return the number of digits in the non-negative integer. */
+	public static int lengthOf(int integer) {
+		int length = 1;
+		while (integer >= 10) {
+			integer /= 10;
+			length ++;
+		}
+		return length;
+	}
+	
+	/** @return the region of the specified digit. */
+	public TextureRegion digit(int digit) {
+		return digits[digit];
+	}
+	
+	/** @return the region holding all the digits. */
+	public TextureRegion source() {
+		return source;
+	}
+	
+	/** @return the width of each digit in the source (in pixels). */
+	public int digitWidth() {
+		return digitWidth;
+	}
+	
+	/** @return the height of each digit in the source (in pixels). */
+	public int digitHeight() {
+		return digitHeight;
+	}
+}
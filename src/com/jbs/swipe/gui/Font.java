@@ -11,10 +11,8 @@ public class Font {
 		ALIGNMENT_CENTER = 1,
 		ALIGNMENT_RIGHT = 2;
 	
-	private static final int NUMBER_OF_DIGITS = 10;
-	
-	private TextureRegion source;
-	private int sourceDigitWidth, sourceDigitHeight, alignment = ALIGNMENT_LEFT;
+	private final DigitGlyphs glyphs;
+	private int alignment = ALIGNMENT_LEFT;
 	private Vector2 position;
 	
 	private float scale = 1;
@@ -23,11 +21,12 @@ public class Font {
 	 * Assumes there are 10 digits in sequential order in 1 row on the Source texture.
 	 */
 	public Font(TextureRegion textureRegion) {
-		this.source = textureRegion;
-		// Digit width is equal to the (totalSourceWidth)/(numberOfDigitsPerRow)
-		this.sourceDigitWidth = textureRegion.getRegionWidth()/NUMBER_OF_DIGITS;
-		// Digit height is equal to the (totalSourceHeight)/(numberOfDigitsPerColumn)
-		this.sourceDigitHeight = textureRegion.getRegionHeight();
+		this(new DigitGlyphs(textureRegion));
+	}
+	
+	/* Create a Font that draws with the specified digits, which may be shared with other Fonts. */
+	public Font(DigitGlyphs glyphs) {
+		this.glyphs = glyphs;
 	}
 	
 	/* Set the default rendering position of the Font to (x, y). */
@@ -62,33 +61,30 @@ public class Font {
 	
 	/* @return the width of each rendered digit. */
 	public float digitWidth() {
-		return sourceDigitWidth * scale();
+		return glyphs.digitWidth() * scale();
 	}
 	
 	/* @return the height of each rendered digit. */
 	public float digitHeight() {
-		return sourceDigitHeight * scale();
+		return glyphs.digitHeight() * scale();
 	}
 	
 	public void renderDigitTo(SpriteBatch batch, int digit, float x, float y) {
 		assertIntegerIsDigit(digit);
-		batch.draw(getDigitTexture(digit), x, y, digitWidth(), digitHeight());
+		batch.draw(glyphs.digit(digit), x, y, digitWidth(), digitHeight());
 	}
 	
 	public void renderIntegerTo(SpriteBatch batch, int integer, float x, float y) {
-		String integerString = integer + "";
+		if (integer < 0)
+			throw new RuntimeException("Error : cannot render " + integer + ", the Font has no minus sign.");
 		
-		int numberOfDigits = integerString.length() + 1;
+		int numberOfDigits = DigitGlyphs.lengthOf(integer) + 1;
 		if (this.alignment == ALIGNMENT_CENTER)
 			x -= ((numberOfDigits + 1) * digitWidth())/2;
 		else if (this.alignment == ALIGNMENT_RIGHT)
 			x -= numberOfDigits * digitWidth();
 		
-		for (int index = 0; index != numberOfDigits - 1; index ++) {
-			x += digitWidth();
-			String digitString = integerString.substring(index, index + 1);
-			renderDigitTo(batch, Integer.parseInt(digitString), x, y);
-		}
+		glyphs.drawInteger(batch, integer, x + digitWidth(), y, digitWidth(), digitHeight());
 	}
 	
 	/* Renders the specified digit to the SpriteBatch with the Font's default rendering position,
@@ -107,22 +103,15 @@ public class Font {
 		renderIntegerTo(batch, integer, (int) this.position.x, (int) this.position.y);
 	}
 	
-	/* @return a TextureRegion of the specified digit using the Font's source Texture. */
+	/* @return the TextureRegion the Font's digits are drawn from. */
+	public TextureRegion texture() {
+		return glyphs.source();
+	}
+	
+	/* @return the TextureRegion of the specified digit, shared by every Font drawn with the same DigitGlyphs. */
 	public TextureRegion getDigitTexture(int i) {
 		assertIntegerIsDigit(i);
-		int x = i * sourceDigitWidth;
-		int y = 0;
-		return slice(x, y, sourceDigitWidth, sourceDigitHeight);
-	}
-	
-	/* @return a new TextureRegion using the Font's source Texture and the
-	 * specified region data. */
-	private TextureRegion slice(int x, int y, int width, int height) {
-		// Create the TextureRegion from the Font's source Texture.
-		TextureRegion region = new TextureRegion(source);
-		// Set the TextureRegion to the specified Region data.
-		region.setRegion(x, y, width, height);
-		return region;
+		return glyphs.digit(i);
 	}
 	
 	/*
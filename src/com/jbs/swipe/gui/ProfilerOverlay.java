@@ -0,0 +1,89 @@
+package com.jbs.swipe.gui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.jbs.framework.rendering.Renderable;
+import com.jbs.swipe.Game;
+import com.jbs.swipe.Profiler;
+
+public class ProfilerOverlay implements Renderable {
+	
+	private static final String
+		FONT_FILE = "assets/GUI/Shop/Font/font0.fnt";
+	private static final float
+		FONT_SCALE = .5f,
+		MARGIN = 10;
+	
+	private final Game game;
+	private final Profiler profiler;
+	/* Reused for every line of text so rendering the overlay does not allocate Strings. */
+	private final StringBuilder line = new StringBuilder();
+	
+	private BitmapFont font;
+	/* The shared font's own colour and scale, restored after the overlay has been drawn with it. */
+	private final Color fontColor = new Color();
+	private float fontScaleX, fontScaleY;
+	
+	/** Create a Renderable that draws the Profiler's frame-time percentiles, GC count and
+	 * last-frame draw calls and section times in the top-left of the screen. */
+	public ProfilerOverlay(Game game, Profiler profiler) {
+		this.game = game;
+		this.profiler = profiler;
+	}
+	
+	@Override
+	public void renderTo(SpriteBatch batch) {
+		if (!profiler.isVisible())
+			return;
+		// The font is not available until the Game has finished loading.
+		if (font == null)
+			font = Game.getFont(FONT_FILE);
+		
+		// The font is shared with the Level's text, which is tinted and scaled with the font's own settings.
+		fontColor.set(font.getColor());
+		fontScaleX = font.getScaleX();
+		fontScaleY = font.getScaleY();
+		font.setScale(FONT_SCALE);
+		font.setColor(Color.WHITE);
+		
+		final float lineHeight = font.getLineHeight();
+		float y = game.screenHeight() - MARGIN;
+		
+		line.setLength(0);
+		appendMillis(line.append("p50 "), profiler.frameTimePercentile(.5f));
+		appendMillis(line.append("  p95 "), profiler.frameTimePercentile(.95f));
+		appendMillis(line.append("  p99 "), profiler.frameTimePercentile(.99f));
+		font.draw(batch, line, MARGIN, y);
+		y -= lineHeight;
+		
+		line.setLength(0);
+		line.append("gc ").append(profiler.gcCountInHistory()).append(" / ").append(profiler.recordedFrames()).append(" frames");
+		font.draw(batch, line, MARGIN, y);
+		y -= lineHeight;
+		
+		line.setLength(0);
+		line.append("draw calls ").append(profiler.lastDrawCalls()).append("  atlas saved ").append(profiler.lastBindsSaved());
+		font.draw(batch, line, MARGIN, y);
+		y -= lineHeight;
+		
+		for (int section = 0; section != Profiler.SECTION_NAMES.length; section ++) {
+			line.setLength(0);
+			appendMillis(line.append(Profiler.SECTION_NAMES[section]).append(' '), profiler.lastSectionTime(section));
+			font.draw(batch, line, MARGIN, y);
+			y -= lineHeight;
+		}
+		
+		font.setColor(fontColor);
+		font.setScale(fontScaleX, fontScaleY);
+	}
+	
+	/** Append the time to the builder with two decimal places, followed by "ms". */
+	private static void appendMillis(StringBuilder builder, float millis) {
+		final int hundredths = (int) (millis * 100);
+		builder.append(hundredths / 100).append('.');
+		if (hundredths % 100 < 10)
+			builder.append('0');
+		builder.append(hundredths % 100).append("ms");
+	}
+}
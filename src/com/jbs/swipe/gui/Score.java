@@ -1,6 +1,7 @@
 package com.jbs.swipe.gui;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.swipe.Game;
 
@@ -17,7 +18,7 @@ public class Score implements Renderable {
 	
 	public Score(Game game) {
 		
-		font = new Font(game.getTexture(FONT_SOURCE));
+		font = new Font(game.digitGlyphs(FONT_SOURCE));
 		// Set the Font to render at the top-center of the Game's screen.
 		font.setPosition((int) game.screenCenter().x, (int) game.screenHeight());
 		// Translate the Font to be completely on-screen.
@@ -33,6 +34,11 @@ public class Score implements Renderable {
 		font.renderIntegerTo(batch, count());
 	}
 	
+	/** @return the TextureRegion the Score is drawn from. */
+	public TextureRegion texture() {
+		return font.texture();
+	}
+	
 	public int count() {
 		return count;
 	}
@@ -45,7 +45,7 @@ public class SpinningButton implements Renderable, Updatable {
 		this.spinners = new Spinner[MAX_SPINNERS];
 		
 		// Set the time that the StartButton was created.
-		this.startTime = System.currentTimeMillis();
+		this.startTime = game.clock().realTime();
 	}
 	
 	@Override
@@ -194,7 +194,7 @@ public class SpinningButton implements Renderable, Updatable {
 	/** @return the change in time since the start time (in milliseconds). */
 	protected long deltaTime() {
 		// Return the difference in time since the start time converted to milliseconds.
-		return System.currentTimeMillis() - startTime;
+		return game.clock().realTime() - startTime;
 	}
 	
 	/** @return true if the Button has been triggered. */
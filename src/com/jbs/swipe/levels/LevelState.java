@@ -7,19 +7,28 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.control.Application;
 import com.jbs.framework.io.InputProxy;
+import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.rendering.ui.Button;
+import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.Profiler;
+import com.jbs.swipe.RenderQueue;
 import com.jbs.swipe.TouchManager;
+import com.jbs.swipe.effects.Explosion;
 import com.jbs.swipe.effects.ScoreChange;
+import com.jbs.swipe.effects.SmallFlame;
+import com.jbs.swipe.gui.ProfilerOverlay;
 import com.jbs.swipe.gui.Score;
 import com.jbs.swipe.gui.buttons.MuteButton;
 import com.jbs.swipe.gui.buttons.PauseButton;
+import com.jbs.swipe.shop.ShopFont;
 import com.jbs.swipe.states.GameOverState;
 import com.jbs.swipe.states.GameState;
 import com.jbs.swipe.states.OverlayState;
 import com.jbs.swipe.states.PausedState;
 import com.jbs.swipe.tiles.Direction;
 import com.jbs.swipe.tiles.SwipeTile;
+import com.jbs.swipe.tiles.TileGrid;
 import com.jbs.swipe.traps.Bomb;
 import com.jbs.swipe.traps.BombSpawner;
 import com.jbs.swipe.traps.DarkHole;
@@ -27,12 +36,17 @@ import com.jbs.swipe.traps.DarkHoleSpawner;
 
 public abstract class LevelState extends GameState {
 	
+	/** The size of each cell of the Level's TileGrid in pixels. */
+	public static final float TILE_INDEX_CELL_SIZE = 128f;
+	
 	private Button pauseButton, muteButton;
 	
 	/** The Level's score-keeping and score-rendering mechanism. */
 	private Score score;
 	/** The Level's TouchManager handles the detecting and calling of touch-related events. */
 	private TouchManager touchManager;
+	/** The Level's spatial index of the SwipeTiles that may be touched. */
+	private TileGrid tileIndex;
 	/** The State to enter when the Level is failed. */
 	private GameOverState gameOverState;
 	/** The State to enter when the Level is paused. */
@@ -41,8 +55,17 @@ public abstract class LevelState extends GameState {
 	private BombSpawner bombSpawner;
 	private DarkHoleSpawner darkHoleSpawner;
 	
+	/** Draws the Game's Profiler over the Level while it is toggled on. */
+	private ProfilerOverlay profilerOverlay;
+	
 	private ArrayList<ScoreChange> scoreChanges;
 	private Iterator<ScoreChange> scoreChangeIterator;
+	/* The ScoreChanges all share a font, and remove themselves while they are rendered, so they are queued as one. */
+	private ShopFont scoreChangeFont;
+	private Renderable scoreChangeRenderer;
+	
+	/** The number of times the Level has been failed. */
+	private int failures = 0;
 	
 	private boolean
 		/** True when the Tutorial has shown. */
@@ -62,6 +85,9 @@ public abstract class LevelState extends GameState {
 	public final void enterState() {
 		System.out.println("Entering " + levelName());
 		
+		// Wait for the Level's assets if they have not finished streaming in the background.
+		Assets.finishLoading(assetGroup());
+		
 		// If the tutorial has not shown yet,
 		// and the user has not opted out of seeing this Level's tutorials,
 		if (!tutorialHasShown && !game.settings().hasOptedOutOfTutorial() && game.settings().numberOfLaunches() < 5) {
@@ -71,8 +97,17 @@ public abstract class LevelState extends GameState {
 			return;
 		}
 
+		enterLevel();
+	}
+	
+	/** Initialize the Level if it has not been, then enter it without showing the tutorial. The SessionReplayer
+	 * enters the Level this way, a recorded session begins after any tutorial. */
+	public final void enterLevel() {
 		if (!initialized)
 			initialize();
+		else
+			// The menus the Level was left for draw random numbers that a replay does not, reseed the session.
+			game.recorder().reentered(this);
 		super.enterState();
 		
 		this.tweenBarOffset(new Vector2(0,150), 300f);
@@ -80,44 +115,69 @@ public abstract class LevelState extends GameState {
 	
 	@Override
 	public final void updateApplication(Application app) {
-		touchManager.update(app.input);
+		final Profiler profiler = game.profiler();
+		// The reactions to this frame's touches are measured against the Level.
+		game.latency().setLevel(levelName());
+		
+		profiler.begin(Profiler.TOUCH);
+		touchManager.update(game.touchInput());
+		profiler.end(Profiler.TOUCH);
+		
+		profiler.begin(Profiler.BUTTONS);
 		pauseButton.updateWith(app.input);
 		muteButton.updateWith(app.input);
+		profiler.end(Profiler.BUTTONS);
 		
+		profiler.begin(Profiler.LEVEL);
 		updateLevelWith(app.input);
+		profiler.end(Profiler.LEVEL);
 		
+		profiler.begin(Profiler.SPAWNERS);
 		bombSpawner.updateWith(app.input);
 		darkHoleSpawner.updateWith(app.input);
+		profiler.end(Profiler.SPAWNERS);
 	}
 	
 	@Override
 	public final void renderTo(SpriteBatch batch) {
+		game.profiler().begin(Profiler.LEVEL_RENDER);
 		super.renderTo(batch);
 		//game.background().renderTo(batch);
 		
-		game.beginIODChange(batch, 2);
-			muteButton.renderTo(batch);
-			pauseButton.renderTo(batch);
-			score.renderTo(batch);
+		final RenderQueue queue = game.renderQueue();
+		queue.beginLayer(2);
+			queue.add(muteButton.texture(), muteButton);
+			queue.add(pauseButton.texture(), pauseButton);
+			queue.add(score.texture(), score);
 			
-			bombSpawner.renderTo(batch);
-			darkHoleSpawner.renderTo(batch);
+			bombSpawner.queueTo(queue);
+			darkHoleSpawner.queueTo(queue);
 			
-			scoreChangeIterator = scoreChanges.iterator();
-			while (scoreChangeIterator.hasNext()) {
-				ScoreChange scoreChange = scoreChangeIterator.next();
-				if (scoreChange != null)
-					scoreChange.renderTo(batch);
-			}
-		game.endIODChange(batch, 2);
+			if (!scoreChanges.isEmpty())
+				queue.add(scoreChangeFont.texture(), scoreChangeRenderer);
+		queue.endLayer();
+		
+		queueLevelTo(queue);
+		queue.flushTo(batch);
+		game.profiler().addDrawCalls(queue.drawCalls());
+		game.profiler().addBindsSaved(queue.bindsSaved());
+		game.profiler().end(Profiler.LEVEL_RENDER);
 		
-		renderLevelTo(batch);
+		// Drawn outside of the timed section so the overlay does not measure itself.
+		profilerOverlay.renderTo(batch);
 	}
 	
 	/** Initialize the Level's base components. */
 	public final void initialize() {
+		// Seed the Game for the session, before anything draws a random number.
+		game.recorder().begin(this);
+		
 		this.touchManager = new TouchManager(4); // 4 is the max possible concurrent touches to track.
 		
+		// Index the Level's SwipeTiles by their position so touches only have to be tested against the Tiles under them.
+		this.tileIndex = new TileGrid(game.screenWidth(), game.screenHeight(), TILE_INDEX_CELL_SIZE);
+		touchManager.setTileIndex(tileIndex);
+		
 		 // Initialize the score-keeping mechanism.
 		this.score = new Score(game()) {
 			@Override
@@ -140,7 +200,24 @@ public abstract class LevelState extends GameState {
 		darkHoleSpawner = new DarkHoleSpawner(game(), this, 2);
 		darkHoleSpawner.setStock(game().user().stockOf(new DarkHole(game())));
 		
+		// Load the Traps' particle effects now rather than when a Bomb is first lit.
+		game.effectPool(SmallFlame.SOURCE, SmallFlame.IMAGES).preload();
+		game.effectPool(Explosion.SOURCE, Explosion.IMAGES).preload();
+		
 		scoreChanges = new ArrayList<ScoreChange>();
+		scoreChangeFont = new ShopFont();
+		scoreChangeRenderer = new Renderable() {
+			@Override
+			public void renderTo(SpriteBatch batch) {
+				scoreChangeIterator = scoreChanges.iterator();
+				while (scoreChangeIterator.hasNext()) {
+					ScoreChange scoreChange = scoreChangeIterator.next();
+					if (scoreChange != null)
+						scoreChange.renderTo(batch);
+				}
+			}
+		};
+		profilerOverlay = new ProfilerOverlay(game, game.profiler());
 		
 		// Initialize abstract components.
 		create();
@@ -149,6 +226,8 @@ public abstract class LevelState extends GameState {
 	
 	/** Reset the Level to its initial state, then start it. */
 	public final void restart() {
+		game.recorder().restarted();
+		
 		// Reset the score.
 		score.reset();
 		
@@ -173,6 +252,7 @@ public abstract class LevelState extends GameState {
 		else
 			game.user().addCoins((int) score.count());
 		
+		failures ++;
 		game.setState(gameOverState);
 	}
 	
@@ -195,6 +275,12 @@ public abstract class LevelState extends GameState {
 		return this.touchManager;
 	}
 	
+	/** @return the Level's spatial index of SwipeTiles. SwipeTiles registered with it receive
+	 * touches from the Level's TouchManager. */
+	public final TileGrid tileIndex() {
+		return this.tileIndex;
+	}
+	
 	/** @return the Level's score as an integer. */
 	public final Score score() {
 		return this.score;
@@ -204,6 +290,13 @@ public abstract class LevelState extends GameState {
 		return initialized;
 	}
 	
+	/** @return the number of times the Level has been failed. Headless drivers of the Level count this rather
+	 * than watching the Game's state, which stays the game-over state if the Level is restarted without being
+	 * entered again. */
+	public final int failures() {
+		return failures;
+	}
+	
 	/** @return the Level's Game. */
 	public final Game game() {
 		return this.game;
@@ -224,10 +317,15 @@ public abstract class LevelState extends GameState {
 		game.user().setHighScore(newHighscore);
 	}
 	
+	/** @return the group of the asset manifest that the Level's assets are loaded in. */
+	protected int assetGroup() {
+		return Assets.ARCADE;
+	}
+	
 	/** @return all the SwipeTiles in the Level. */
 	public abstract SwipeTile[] tiles();
-	/** Render the abstract Renderables to the specified SpriteBatch. */
-	protected abstract void renderLevelTo(SpriteBatch batch);
+	/** Add the abstract Renderables to the RenderQueue. */
+	protected abstract void queueLevelTo(RenderQueue queue);
 	/** Update the abstract components of the Level. */
 	protected abstract void updateLevelWith(InputProxy input);
 	/** Instantiate the Level's Components. */
@@ -4,11 +4,11 @@ import aurelienribon.tweenengine.BaseTween;
 import aurelienribon.tweenengine.Tween;
 import aurelienribon.tweenengine.TweenCallback;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.io.InputProxy;
 import com.jbs.swipe.Game;
 import com.jbs.swipe.Pattern;
+import com.jbs.swipe.RenderQueue;
 import com.jbs.swipe.effects.Animator;
 import com.jbs.swipe.levels.LevelState;
 import com.jbs.swipe.levels.TutorialState;
@@ -56,7 +56,9 @@ public abstract class ArcadeMode extends LevelState implements TileListener {
 			delayEvent(new TweenCallback() {
 				@Override
 				public void onEvent(int type, BaseTween<?> source) {
-					remove(tile);
+					// The Tile may have already been removed and reused by the time the shake ends.
+					if (tile.tileState() == TileState.INCORRECTLY_SWIPED)
+						remove(tile);
 				}
 			}, SHAKE_DURATION);
 			
@@ -113,12 +115,12 @@ public abstract class ArcadeMode extends LevelState implements TileListener {
 	}
 	
 	@Override
-	protected void renderLevelTo(SpriteBatch batch) {
-		game().beginIODChange(batch, 3);
+	protected void queueLevelTo(RenderQueue queue) {
+		queue.beginLayer(3);
 			for (Row row : this.rows)
-				if (row != null && row.isVisible())
-					row.renderTo(batch);
-		game().endIODChange(batch, 3);
+				if (row != null)
+					row.queueTo(queue);
+		queue.endLayer();
 	}
 	
 	@Override
@@ -252,6 +254,8 @@ public abstract class ArcadeMode extends LevelState implements TileListener {
 		for (Row row : this.rows) {
 			row.setPattern(new Pattern<Direction>(DEFAULT_PATTERN_LENGTH, Direction.RIGHT, Direction.UP, Direction.LEFT, Direction.DOWN));
 			row.scramblePattern();
+			// Route touches to the Row's visible Tiles through the Level's index.
+			row.setTileIndex(super.tileIndex());
 		}
 	}
 	
@@ -30,33 +30,11 @@ abstract class Formation {
 				//Math.max(minimumTimeToSwipe, maximumTimeToSwipe - (score().count() / swipesTilMaxDifficulty)*(maximumTimeToSwipe - minimumTimeToSwipe));
 		final Vector2 offset = (offsetFromTarget == null)? new Vector2() : offsetFromTarget;
 		
-		final SwipeTile tile = new SwipeTile(game, timeToSwipe, direction) {
-			@Override
-			public void updateTranslationAnimation() {
-				//if (tileToFollow != null && (tileToFollow.tileState() == TileState.CORRECTLY_SWIPED || tileToFollow.tileState() == TileState.FINISHED)) {
-				if (tileToFollow != null) {
-					
-					if (tileToFollow.tileState() == TileState.CORRECTLY_SWIPED || tileToFollow.tileState() == TileState.FINISHED)
-						offset.set(0, 0);
-					
-					if (tileToFollow.tileState() == TileState.FINISHED)
-						tileToFollow.updateTranslationAnimation();
-					
-					final float
-						// Declare the distance to the target position.
-						deltaX = tileToFollow.x() + offset.x - this.x(),
-						deltaY = tileToFollow.y() + offset.y - this.y(),
-						// Declare the new coordinates for the SwipeTile to use.
-						newX = this.x() + (deltaX * translationDamping),
-						newY = this.y() + (deltaY * translationDamping);
-					
-					setPosition(newX, newY);
-				} else
-					super.updateTranslationAnimation();
-			}
-		};
-		if (tileToFollow != null)
+		final SwipeTile tile = game.tilePool().acquire(timeToSwipe, direction);
+		if (tileToFollow != null) {
+			tile.setTrackingTarget(tileToFollow, offset.x, offset.y, translationDamping);
 			tile.setPosition(tileToFollow.x() + offset.x, tileToFollow.y() + offset.y);
+		}
 		tile.scale(SCALE, SCALE);
 		tile.setSwipeListener(listener);
 		
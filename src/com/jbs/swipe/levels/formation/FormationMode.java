@@ -6,10 +6,11 @@ import aurelienribon.tweenengine.BaseTween;
 import aurelienribon.tweenengine.Tween;
 import aurelienribon.tweenengine.TweenCallback;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.RenderQueue;
 import com.jbs.swipe.effects.Animator;
 import com.jbs.swipe.levels.LevelState;
 import com.jbs.swipe.levels.TutorialState;
@@ -51,7 +52,9 @@ public final class FormationMode extends LevelState implements TileListener {
 			delayEvent(new TweenCallback() {
 				@Override
 				public void onEvent(int type, BaseTween<?> source) {
-					tile.setState(TileState.FINISHED);
+					// The Tile may have already been removed and reused by the time the shake ends.
+					if (tile.tileState() == TileState.INCORRECTLY_SWIPED)
+						tile.setState(TileState.FINISHED);
 				}
 			}, SHAKE_DURATION);
 			
@@ -80,10 +83,15 @@ public final class FormationMode extends LevelState implements TileListener {
 	}
 	
 	@Override
-	protected void renderLevelTo(SpriteBatch batch) {
+	protected int assetGroup() {
+		return Assets.FORMATION;
+	}
+	
+	@Override
+	protected void queueLevelTo(RenderQueue queue) {
 		for (SwipeTile tile : tiles)
 			if (tile != null)
-				tile.renderTo(batch);
+				queue.add(tile.texture(), tile);
 	}
 	
 	@Override
@@ -99,7 +107,7 @@ public final class FormationMode extends LevelState implements TileListener {
 			}
 			
 			for (SwipeTile newTile : formations[currentFormation].create())
-				tiles.add(newTile);
+				add(newTile);
 		}
 	}
 	
@@ -111,7 +119,7 @@ public final class FormationMode extends LevelState implements TileListener {
 		this.formations = createFormations(difficulty);
 		
 		for (SwipeTile newTile : formations[currentFormation].create())
-			this.tiles.add(newTile);
+			add(newTile);
 	}
 	
 	@Override
@@ -124,15 +132,32 @@ public final class FormationMode extends LevelState implements TileListener {
 		return this.tiles.contains(tile);
 	}
 	
-	/** Safely remove the specified Tile from the Level. */
+	/** Add the Tile to the Level and make it touchable. */
+	public final void add(SwipeTile tile) {
+		tiles.add(tile);
+		super.tileIndex().add(tile);
+	}
+	
+	/** Safely remove the specified Tile from the Level and return it to the Game's SwipeTilePool. */
 	public final void remove(SwipeTile tile) {
-		tiles.remove(tile);
+		if (!tiles.remove(tile))
+			return;
+		
+		// Tiles following the removed Tile carry on in it's place.
+		for (int i = 0; i != tiles.size(); i ++)
+			if (tiles.get(i).trackingTarget() == tile)
+				tiles.get(i).takeOverMovementOf(tile);
+		
+		game().tilePool().release(tile);
 	}
 	
 	@Override
 	protected void reset() {
 		// Clear the TouchManager.
 		super.touchManager().clearListeners();
+		super.tileIndex().clear();
+		for (int i = 0; i != tiles.size(); i ++)
+			game().tilePool().release(tiles.get(i));
 		tiles.clear();
 	}
 	
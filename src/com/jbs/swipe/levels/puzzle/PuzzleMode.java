@@ -2,10 +2,11 @@ package com.jbs.swipe.levels.puzzle;
 
 import java.util.ArrayList;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.RenderQueue;
 import com.jbs.swipe.levels.LevelState;
 import com.jbs.swipe.levels.TutorialState;
 import com.jbs.swipe.levels.arcade.ArcadeTutorialState;
@@ -74,10 +75,15 @@ public abstract class PuzzleMode extends LevelState implements TileListener {
 	}
 	
 	@Override
-	protected void renderLevelTo(SpriteBatch batch) {
+	protected int assetGroup() {
+		return Assets.FORMATION;
+	}
+	
+	@Override
+	protected void queueLevelTo(RenderQueue queue) {
 		for (SwipeTile tile : tiles)
 			if (tile != null)
-				tile.renderTo(batch);
+				queue.add(tile.texture(), tile);
 	}
 	
 	@Override
@@ -91,15 +97,18 @@ public abstract class PuzzleMode extends LevelState implements TileListener {
 				if(tile.expired() || tile.isCorrectlySwiped()) {
 					garbageTiles.add(tile);
 					//temporary tile initializer
-					SwipeTile newTile = new SwipeTile(game(), TIME_TO_SWIPE);
+					SwipeTile newTile = game().tilePool().acquire(TIME_TO_SWIPE);
 					newTile.setScale(.5f, .5f);
 					newTile.setPosition(tile.x(), tile.y());
 					newTile.setSwipeListener(this);
+					tileIndex().add(newTile);
 					newTiles.add(newTile);
 				}
 			}
 		
 		tiles.removeAll(garbageTiles);
+		for (SwipeTile tile : garbageTiles)
+			game().tilePool().release(tile);
 		tiles.addAll(newTiles);
 		if(tiles.size()==0) {
 			spawnFormation();
@@ -115,7 +124,12 @@ public abstract class PuzzleMode extends LevelState implements TileListener {
 	
 	@Override
 	protected void reset() {
-		
+		// Unregister the Tiles along with returning them, so the TileGrid only holds the Level's Tiles.
+		super.tileIndex().clear();
+		for (int i = 0; i != tiles.size(); i ++)
+			game().tilePool().release(tiles.get(i));
+		// A new formation is spawned on the next update.
+		tiles.clear();
 	}
 	
 	@Override
@@ -142,10 +156,12 @@ public abstract class PuzzleMode extends LevelState implements TileListener {
 		
 		final Vector2 POSITION = positionAsVector(position);
 		
-		SwipeTile tile = new SwipeTile(game(), TIME_TO_SWIPE);
+		SwipeTile tile = game().tilePool().acquire(TIME_TO_SWIPE);
 		tile.setScale(.5f, .5f);
 		tile.setPosition(POSITION.x, POSITION.y);
 		tile.setSwipeListener(this);
+		// The Level's TouchManager routes touches to the Tile through the index.
+		tileIndex().add(tile);
 		
 		return tile;
 	}
@@ -22,6 +22,8 @@ public class ItemWindow implements Updatable, Renderable {
 	private final Graphic window, purchaseIcon;
 	private final PurchaseButton button;
 	private final ShopFont primaryFont, secondaryFont, descFont;
+	/* Reused for the item count so rendering does not allocate. */
+	private final StringBuilder itemCountText = new StringBuilder();
 	private final float
 		titleMargin = 15,
 		iconMargin = 100;
@@ -86,16 +88,18 @@ public class ItemWindow implements Updatable, Renderable {
 		
 		primaryFont.setScale(0.5f);
 		// Draw the name of the Purchase to the top of the window.
-		primaryFont.draw(batch, purchase.name(), new Vector2(window.x()+Game.game.screenWidth()/2, window.y() + window.height()/2.5f));
+		primaryFont.draw(batch, purchase.name(), window.x()+Game.game.screenWidth()/2, window.y() + window.height()/2.5f);
 		descFont.setScale(0.25f);
-		descFont.draw(batch, purchase.desc(), new Vector2(window.x()+Game.game.screenWidth()/2, window.y() + 100));
+		descFont.draw(batch, purchase.desc(), window.x()+Game.game.screenWidth()/2, window.y() + 100);
 		
 		// Draw the Purchase Icon to the center of the window.
 		purchaseIcon.renderTo(batch);
 		
 		secondaryFont.setScale(0.5f);
 		// Render the item count at the bottom right corner of the Trap icon.
-		secondaryFont.draw(batch, "x" + purchase.itemCount(), new Vector2(purchaseIcon.x(), purchaseIcon.y() - purchaseIcon.height()/2));
+		itemCountText.setLength(0);
+		itemCountText.append('x').append(purchase.itemCount());
+		secondaryFont.draw(batch, itemCountText, purchaseIcon.x(), purchaseIcon.y() - purchaseIcon.height()/2);
 		
 		// Draw the Button to the window.
 		button.renderTo(batch);
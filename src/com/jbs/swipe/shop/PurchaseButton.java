@@ -17,6 +17,8 @@ public class PurchaseButton extends Button {
 	
 	private final Purchase purchase;
 	private final ShopFont font;
+	/* Reused for the cost so rendering does not allocate. */
+	private final StringBuilder text = new StringBuilder();
 	
 	public PurchaseButton(Game game, Purchase purchase, Vector2 center) {
 		super(center, Assets.getAtlasRegion(UNPRESSED_SOURCE), Assets.getAtlasRegion(PRESSED_SOURCE));
@@ -31,6 +33,8 @@ public class PurchaseButton extends Button {
 	public void renderTo(SpriteBatch batch) {
 		super.renderTo(batch);
 		
-		font.draw(batch, "" + purchase.cost(), new Vector2(x(), y()+7f));
+		text.setLength(0);
+		text.append(purchase.cost());
+		font.draw(batch, text, x(), y()+7f);
 	}
 }
\ No newline at end of file
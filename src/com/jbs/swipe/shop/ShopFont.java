@@ -1,6 +1,7 @@
 package com.jbs.swipe.shop;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -11,6 +12,12 @@ public class ShopFont {
 	
 	private static final String
 		FONT_FILE = "assets/GUI/Shop/Font/font0.fnt";
+	/** The number of text layouts kept for all the ShopFonts. */
+	public static final int LAYOUT_CACHE_SIZE = 128;
+	
+	/* Every ShopFont draws with the same BitmapFont, so they share one cache of its layouts. */
+	private static TextLayoutCache layouts;
+	
 	BitmapFont font;
 	Vector2 scale = new Vector2(1,1);
 	
@@ -22,13 +29,13 @@ public class ShopFont {
 		
 	}
 	
-	public void scaleToWidth( float maxWidth, String text ) {
-		setScale(maxWidth / font.getBounds(text).width);
+	public void scaleToWidth( float maxWidth, CharSequence text ) {
+		setScale(maxWidth / layoutOf(text, 1, 1).width());
 	}
-	public void scaleToBounds( float maxWidth, float maxHeight, String text ) {
-		TextBounds bounds = font.getBounds(text);
+	public void scaleToBounds( float maxWidth, float maxHeight, CharSequence text ) {
+		final TextLayoutCache.Layout layout = layoutOf(text, 1, 1);
 		setScale(
-			Math.min(maxWidth / bounds.width, maxHeight / bounds.height)
+			Math.min(maxWidth / layout.width(), maxHeight / layout.height())
 		);
 	}
 	public void setScale( float scale ) {
@@ -42,32 +49,47 @@ public class ShopFont {
 		font.setColor(color);
 	}
 	
-	public TextBounds getBounds(String str) {
-		return font.getBounds(str);
+	/** @return the Texture the font's glyphs are drawn from. */
+	public Texture texture() {
+		return font.getRegion().getTexture();
+	}
+	
+	/** @return the bounds of the text at the ShopFont's scale. Do not modify them. */
+	public TextBounds getBounds(CharSequence str) {
+		return layoutOf(str, scale.x, scale.y).bounds();
 	}
 	
 	/** Draw the text to the Batch around the specified center.
 	 * @param batch The Batch to render to.
 	 * @param text The text to render.
 	 * @param center The center of the text. */
-	public void draw(SpriteBatch batch, String text, Vector2 center) {
-		font.setScale(scale.x,scale.y);
-		final float
-			textWidth = font.getBounds(text).width,
-			textHeight = font.getBounds(text).height;
+	public void draw(SpriteBatch batch, CharSequence text, Vector2 center) {
+		draw(batch, text, center.x, center.y);
+	}
+	
+	/** Draw the text to the Batch around the center (x, y). */
+	public void draw(SpriteBatch batch, CharSequence text, float x, float y) {
+		final TextLayoutCache.Layout layout = layoutOf(text, scale.x, scale.y);
 		//font.draw(batch, text, center.x - textWidth/2, center.y + textHeight/2);
-		drawAt(batch, text, center.x-textWidth/2,center.y+textHeight/2);
+		layout.drawTo(batch, font, x - layout.width()/2, y + layout.height()/2);
 	}
 	/** Draw the text to the Batch bottom left.
 	 * @param batch The Batch to render to.
 	 * @param text The text to render.
 	 * @param center The center of the text. */
-	public void drawAt(SpriteBatch batch, String text, Vector2 position) {
+	public void drawAt(SpriteBatch batch, CharSequence text, Vector2 position) {
 		drawAt(batch, text, position.x, position.y);
 	}
 	
-	public void drawAt(SpriteBatch batch, String text, float x, float y ) {
-		font.setScale(scale.x,scale.y);
-		font.draw(batch,text,x,y);
+	public void drawAt(SpriteBatch batch, CharSequence text, float x, float y ) {
+		layoutOf(text, scale.x, scale.y).drawTo(batch, font, x, y);
+	}
+	
+	/** @return the cached layout of the text, the text is only measured and laid out when it is not cached. */
+	private TextLayoutCache.Layout layoutOf(CharSequence text, float scaleX, float scaleY) {
+		// The font is reloaded with the Game's assets, layouts of the old font cannot be reused.
+		if (layouts == null || layouts.font() != font)
+			layouts = new TextLayoutCache(font, LAYOUT_CACHE_SIZE);
+		return layouts.layoutOf(text, scaleX, scaleY);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.jbs.swipe.shop;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+public final class TextLayoutCache {
+	
+	private final BitmapFont font;
+	private final LinkedHashMap<Key, Layout> layouts;
+	/* The Key that lookups are made with, so finding a Layout does not allocate. */
+	private final Key probe = new Key();
+	
+	private int hits, misses;
+	
+	/**
+	 * Create a cache of the layouts of text drawn with the BitmapFont. Each layout holds the text's bounds and
+	 * its glyphs at one scale, so text that is drawn every frame is only laid out the first time. When the
+	 * cache is full the least recently drawn layout is evicted.
+	 */
+	public TextLayoutCache(BitmapFont font, final int capacity) {
+		if (capacity <= 0)
+			throw new RuntimeException("TextLayoutCache capacity must be > 0");
+		this.font = font;
+		// Ordered by access, so the eldest entry is the least recently used.
+		this.layouts = new LinkedHashMap<Key, Layout>(capacity, .75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Layout> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+	
+	/** @return the layout of the text at the scale, laying it out if it is not cached. The text is copied
+	 * when it is cached, so it may be a reused StringBuilder. */
+	public Layout layoutOf(CharSequence text, float scaleX, float scaleY) {
+		probe.set(text, scaleX, scaleY);
+		Layout layout = layouts.get(probe);
+		if (layout != null) {
+			hits ++;
+			return layout;
+		}
+		misses ++;
+		
+		final String string = text.toString();
+		font.setScale(scaleX, scaleY);
+		layout = new Layout(font, string);
+		
+		final Key key = new Key();
+		key.set(string, scaleX, scaleY);
+		layouts.put(key, layout);
+		return layout;
+	}
+	
+	/** @return the BitmapFont the layouts are made with. */
+	public BitmapFont font() {
+		return font;
+	}
+	
+	/** Remove all the layouts. */
+	public void clear() {
+		layouts.clear();
+	}
+	
+	/** @return the number of layouts in the cache. */
+	public int size() {
+		return layouts.size();
+	}
+	
+	/** @return the number of lookups that found a cached layout. */
+	public int hits() {
+		return hits;
+	}
+	
+	/** @return the number of lookups that had to lay the text out. */
+	public int misses() {
+		return misses;
+	}
+	
+	/** The bounds and glyphs of a string at one scale. */
+	public static final class Layout {
+		
+		private final BitmapFontCache glyphs;
+		private final TextBounds bounds;
+		private float colorBits;
+		
+		Layout(BitmapFont font, String text) {
+			this.glyphs = new BitmapFontCache(font);
+			// The glyphs are laid out at the origin and moved to where they are drawn.
+			this.bounds = new TextBounds(glyphs.setText(text, 0, 0));
+			this.colorBits = glyphs.getColor().toFloatBits();
+		}
+		
+		/** Draw the glyphs to the Batch with their top left at (x, y), in the BitmapFont's current color. */
+		public void drawTo(SpriteBatch batch, BitmapFont font, float x, float y) {
+			glyphs.setPosition(x, y);
+			// BitmapFont.draw() uses the font's color at the time of drawing, the glyphs are tinted to match it.
+			final float fontColorBits = font.getColor().toFloatBits();
+			if (fontColorBits != colorBits) {
+				glyphs.setColor(font.getColor());
+				colorBits = fontColorBits;
+			}
+			glyphs.draw(batch);
+		}
+		
+		/** @return the bounds of the text. Do not modify them. */
+		public TextBounds bounds() {
+			return bounds;
+		}
+		
+		public float width() {
+			return bounds.width;
+		}
+		
+		public float height() {
+			return bounds.height;
+		}
+	}
+	
+	/** Identifies a layout by the characters of its text and its scale. */
+	private static final class Key {
+		
+		private CharSequence text;
+		private float scaleX, scaleY;
+		private int hash;
+		
+		void set(CharSequence text, float scaleX, float scaleY) {
+			this.text = text;
+			this.scaleX = scaleX;
+			this.scaleY = scaleY;
+			
+			int hash = 31 * Float.floatToIntBits(scaleX) + Float.floatToIntBits(scaleY);
+			for (int i = 0, length = text.length(); i != length; i ++)
+				hash = 31 * hash + text.charAt(i);
+			this.hash = hash;
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key))
+				return false;
+			final Key other = (Key) object;
+			if (other.hash != hash || other.scaleX != scaleX || other.scaleY != scaleY)
+				return false;
+			
+			final int length = text.length();
+			if (other.text.length() != length)
+				return false;
+			for (int i = 0; i != length; i ++)
+				if (other.text.charAt(i) != text.charAt(i))
+					return false;
+			return true;
+		}
+	}
+}
@@ -18,13 +18,9 @@ public class TrapPurchase implements Purchase {
 	
 	@Override
 	public void attemptPurchase(User user) {
-		if (user.jbsCoins() < trap.cost())
-			// User is too damn poor to afford the Trap.
-			return;
-		else
-			user.removeCoins(trap.cost());
-		// Payment was successful. Give the user the items.
-		giveTrapsTo(user);
+		// Take the payment and give the user the items together, so neither is saved without the other.
+		// If the User is too damn poor to afford the Trap, nothing happens.
+		user.buy(trap, trap.trapsPerPurchase(), trap.cost());
 	}
 	
 	@Override
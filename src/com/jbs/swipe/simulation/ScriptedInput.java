@@ -0,0 +1,114 @@
+package com.jbs.swipe.simulation;
+
+import com.jbs.framework.io.InputProxy;
+
+public class ScriptedInput extends InputProxy {
+	
+	/** The number of touches the ScriptedInput can simulate at once. */
+	public static final int MAX_TOUCHES = 4;
+	
+	private final float[]
+		x = new float[MAX_TOUCHES],
+		y = new float[MAX_TOUCHES],
+		deltaX = new float[MAX_TOUCHES],
+		deltaY = new float[MAX_TOUCHES];
+	private final boolean[] touched = new boolean[MAX_TOUCHES];
+	private boolean justTouched;
+	
+	/** Create an InputProxy whose touches are set by the caller instead of the device, so the
+	 * Game can be driven by a script. Coordinates are in the Game's virtual screen space. */
+	public ScriptedInput() {
+		super();
+	}
+	
+	/** Put the specified touch down at (x, y). */
+	public void touchDown(int touchID, float x, float y) {
+		this.x[touchID] = x;
+		this.y[touchID] = y;
+		this.deltaX[touchID] = 0;
+		this.deltaY[touchID] = 0;
+		this.touched[touchID] = true;
+		this.justTouched = true;
+	}
+	
+	/** Drag the specified touch to (x, y). */
+	public void dragTo(int touchID, float x, float y) {
+		this.deltaX[touchID] = x - this.x[touchID];
+		this.deltaY[touchID] = y - this.y[touchID];
+		this.x[touchID] = x;
+		this.y[touchID] = y;
+	}
+	
+	/** Lift the specified touch. */
+	public void touchUp(int touchID) {
+		this.touched[touchID] = false;
+		this.deltaX[touchID] = 0;
+		this.deltaY[touchID] = 0;
+	}
+	
+	/** Lift all the touches. */
+	public void reset() {
+		for (int i = 0; i != MAX_TOUCHES; i ++)
+			touchUp(i);
+		justTouched = false;
+	}
+	
+	/** Set whether a touch went down this frame, for a touch that went down and up again between frames. */
+	public void setJustTouched(boolean flag) {
+		this.justTouched = flag;
+	}
+	
+	/** Called after every simulated frame, a touch is only "just touched" for the frame it went down in. */
+	public void endFrame() {
+		justTouched = false;
+		for (int i = 0; i != MAX_TOUCHES; i ++) {
+			deltaX[i] = 0;
+			deltaY[i] = 0;
+		}
+	}
+	
+	@Override
+	public boolean isTouched(int touchID) {
+		return touchID < MAX_TOUCHES && touched[touchID];
+	}
+	
+	@Override
+	public boolean isTouched() {
+		return isTouched(0);
+	}
+	
+	@Override
+	public boolean justTouched() {
+		return justTouched;
+	}
+	
+	@Override
+	public float getX(int touchID) {
+		return x[touchID];
+	}
+	
+	@Override
+	public float getY(int touchID) {
+		return y[touchID];
+	}
+	
+	@Override
+	public float getX() {
+		return getX(0);
+	}
+	
+	@Override
+	public float getY() {
+		return getY(0);
+	}
+	
+	@Override
+	public float getDeltaX() {
+		return deltaX[0];
+	}
+	
+	@Override
+	public float getDeltaY() {
+		return deltaY[0];
+	}
+}
@@ -0,0 +1,314 @@
+package com.jbs.swipe.simulation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.jbs.framework.control.Application;
+import com.jbs.framework.control.ApplicationState;
+import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.ByteReader;
+import com.jbs.swipe.Clock;
+import com.jbs.swipe.Game;
+import com.jbs.swipe.SessionRecorder;
+import com.jbs.swipe.TouchInput;
+import com.jbs.swipe.levels.LevelState;
+import com.jbs.swipe.traps.Bomb;
+import com.jbs.swipe.traps.DarkHole;
+
+public class SessionReplayer {
+	
+	/** The fastest an on-screen replay can be played, in recorded frames per rendered frame. */
+	public static final float MAX_SPEED = 100;
+	
+	private final Game game;
+	private final LevelState level;
+	private final ByteReader log;
+	private final SimulatedClock clock;
+	private final ScriptedInput input;
+	private final TouchInput touches;
+	private final SimulatedUser user;
+	private final Report report = new Report();
+	
+	/* The log's header. */
+	private final long seed, clockTime;
+	private final float accumulator, timeScale, firstAnimationDelta;
+	
+	/* The Game's own time source, input and state, restored when the replay is over. */
+	private Clock realClock;
+	private InputProxy realInput;
+	private TouchInput realTouches;
+	private ApplicationState realState;
+	private long realTime;
+	private float realAccumulator, realTimeScale;
+	private boolean wasRecording;
+	
+	/* The touch mask of the InputProxy's touches since they last changed. */
+	private int mask;
+	private boolean started = false, finished = false;
+	
+	/* The State that plays the replay on screen, or null if the replay is headless. */
+	private ReplayState replayState;
+	private float framesToPlay;
+	
+	/**
+	 * Create a SessionReplayer that plays a log written by the SessionRecorder back into the Level. The Game must
+	 * have finished loading its assets and the Level must not have been initialized yet, the replay initializes it
+	 * from the log's seed. Like the Simulator, the Level plays as a SimulatedUser, which is given the traps the session
+	 * was recorded with, so the replay does not change the active User's coins or high score.
+	 * @param level A new instance of the Level the log was recorded in.
+	 */
+	public SessionReplayer(Game game, LevelState level, byte[] bytes) {
+		this.game = game;
+		this.level = level;
+		this.log = new ByteReader(bytes);
+		this.clock = new SimulatedClock();
+		this.input = new ScriptedInput();
+		this.touches = new TouchInput(game.screenWidth(), game.screenHeight());
+		
+		if (log.readInt() != SessionRecorder.MAGIC)
+			throw new RuntimeException("Error in SessionReplayer : The log is not a recorded session.");
+		if (log.readShort() != SessionRecorder.VERSION)
+			throw new RuntimeException("Error in SessionReplayer : The log is from an unknown version.");
+		seed = log.readLong();
+		final int width = log.readShort(), height = log.readShort();
+		if (width != game.screenWidth() || height != game.screenHeight())
+			throw new RuntimeException("Error in SessionReplayer : The log was recorded at " + width + "x" + height
+				+ ", the Game is " + game.screenWidth() + "x" + game.screenHeight() + ".");
+		final String levelClass = log.readString();
+		if (!levelClass.equals(level.getClass().getName()))
+			throw new RuntimeException("Error in SessionReplayer : The log was recorded in " + levelClass + ", not " + level.getClass().getName() + ".");
+		if (level.initialized())
+			throw new RuntimeException("Error in SessionReplayer : The Level has already been initialized.");
+		
+		clockTime = log.readLong();
+		accumulator = log.readFloat();
+		timeScale = log.readFloat();
+		firstAnimationDelta = log.readFloat();
+		
+		user = new SimulatedUser(game);
+		user.setStock(new Bomb(game), log.readInt());
+		user.setStock(new DarkHole(game), log.readInt());
+	}
+	
+	/** Create a SessionReplayer that plays the log in the file back into the Level. */
+	public SessionReplayer(Game game, LevelState level, FileHandle file) {
+		this(game, level, file.readBytes());
+	}
+	
+	/**
+	 * Replay the whole session as fast as possible without rendering. The Game's time source, input and state
+	 * are restored when the replay is over.
+	 * @return the replay's statistics, including the first frame whose score differs from the recording.
+	 */
+	public Report run() {
+		final long startTime = System.nanoTime();
+		start();
+		try {
+			while (step());
+		} finally {
+			finish();
+		}
+		report.elapsedNanos = System.nanoTime() - startTime;
+		return report;
+	}
+	
+	/**
+	 * Replay the session on screen by making it the Game's state. The Game's state is restored when the log ends.
+	 * @param speed The number of recorded frames replayed per rendered frame, from above 0 up to MAX_SPEED.
+	 */
+	public void play(float speed) {
+		if (speed <= 0 || speed > MAX_SPEED)
+			throw new RuntimeException("Error in SessionReplayer.play(" + speed + ") : Speed must be > 0 and <= " + MAX_SPEED);
+		
+		replayState = new ReplayState(speed);
+		start();
+		game.setState(replayState);
+	}
+	
+	/** @return the replay's statistics so far. */
+	public Report report() {
+		return report;
+	}
+	
+	/** @return true once every frame of the log has been replayed. */
+	public boolean isFinished() {
+		return finished;
+	}
+	
+	/** Put the Game in the state the session was recorded from and enter the Level. */
+	private void start() {
+		if (started)
+			throw new RuntimeException("Error in SessionReplayer : A session can only be replayed once.");
+		started = true;
+		
+		realClock = game.clock().source();
+		realInput = game.input;
+		realTouches = game.touchInput();
+		realState = game.applicationState();
+		realTime = game.clock().nanoTime();
+		realAccumulator = game.clock().accumulator();
+		realTimeScale = game.clock().timeScale();
+		wasRecording = game.recorder().isEnabled();
+		
+		game.setClock(clock);
+		game.input = input;
+		game.setTouchInput(touches);
+		game.setUser(user);
+		// The replay seeds the Level from the log instead.
+		game.recorder().setEnabled(false);
+		
+		game.clock().restore(clockTime, accumulator);
+		game.clock().setTimeScale(timeScale);
+		game.setRandomSeed(seed);
+		level.enterLevel();
+		// Finish the frame the Level was entered in.
+		game.tweenManager().update(firstAnimationDelta);
+	}
+	
+	/**
+	 * Replay the next recorded frame.
+	 * @return false if the log has ended.
+	 */
+	private boolean step() {
+		if (log.remaining() == 0)
+			return false;
+		
+		final int flags = log.readByte();
+		clock.advanceNanos(log.readLong());
+		game.clock().tick();
+		if ((flags & SessionRecorder.RESEEDED) != 0)
+			game.setRandomSeed(log.readLong());
+		
+		if ((flags & SessionRecorder.INPUT) != 0) {
+			mask = log.readByte();
+			for (int i = 0; i != SessionRecorder.TOUCHES; i ++)
+				if ((mask & (1 << i)) != 0) {
+					final float x = log.readFloat(), y = log.readFloat();
+					if (input.isTouched(i))
+						input.dragTo(i, x, y);
+					else
+						input.touchDown(i, x, y);
+				} else
+					input.touchUp(i);
+		}
+		input.setJustTouched((mask & SessionRecorder.JUST_TOUCHED) != 0);
+		
+		if ((flags & SessionRecorder.EVENTS) != 0) {
+			final int events = log.readShort();
+			for (int i = 0; i != events; i ++) {
+				final int type = log.readByte(), pointer = log.readByte();
+				final float x = log.readFloat(), y = log.readFloat();
+				touches.inject(type, pointer, x, y, clock.nanoTime() - log.readInt());
+			}
+		}
+		touches.beginFrame();
+		
+		final int failuresBeforeFrame = level.failures();
+		if ((flags & SessionRecorder.LEVEL_UPDATED) != 0)
+			level.updateApplication(game);
+		if ((flags & SessionRecorder.RESTARTED) != 0)
+			level.restart();
+		if (level.failures() != failuresBeforeFrame) {
+			report.failures += level.failures() - failuresBeforeFrame;
+			// The Level set the Game to its game-over state, keep playing the replay on screen.
+			if (replayState != null)
+				game.setState(replayState);
+		}
+		
+		game.tweenManager().update(game.clock().animationDelta());
+		input.endFrame();
+		
+		if ((flags & SessionRecorder.CHECK) != 0) {
+			final int recordedScore = log.readInt();
+			if (recordedScore != level.score().count() && report.firstDivergence == -1) {
+				report.firstDivergence = report.frames;
+				System.out.println("Warning! Replay diverged at frame " + report.frames + ", score " + level.score().count()
+					+ " was recorded as " + recordedScore + ".");
+			}
+		}
+		
+		report.frames ++;
+		report.finalScore = level.score().count();
+		return true;
+	}
+	
+	/** Restore the Game's own time source, input and state. */
+	private void finish() {
+		finished = true;
+		game.setClock(realClock);
+		game.clock().restore(realTime, realAccumulator);
+		game.clock().setTimeScale(realTimeScale);
+		game.input = realInput;
+		game.setTouchInput(realTouches);
+		game.setUser(null);
+		game.recorder().setEnabled(wasRecording);
+		if (game.applicationState() != realState)
+			game.setState(realState);
+	}
+	
+	/** Replays the session at a fixed number of recorded frames per rendered frame, drawing the Level as it goes. */
+	private class ReplayState implements ApplicationState {
+		
+		private final float speed;
+		
+		ReplayState(float speed) {
+			this.speed = speed;
+		}
+		
+		@Override
+		public void updateApplication(Application app) {
+			if (finished)
+				return;
+			framesToPlay += speed;
+			while (framesToPlay >= 1) {
+				framesToPlay --;
+				if (!step()) {
+					finish();
+					System.out.println("Replayed " + report);
+					return;
+				}
+			}
+		}
+		
+		@Override
+		public void renderTo(SpriteBatch batch) {
+			level.renderTo(batch);
+		}
+		
+		@Override
+		public void enterState() { }
+		@Override
+		public void exitState() { }
+	}
+	
+	/** The results of a replay. */
+	public static class Report {
+		
+		public long elapsedNanos; // The real time a headless replay took.
+		public int
+			frames,
+			failures,
+			finalScore,
+			firstDivergence = -1; // The first frame whose score differed from the recording, or -1.
+		
+		Report() { }
+		
+		/** @return true if the replay's score matched the recording at every check. */
+		public boolean matchesRecording() {
+			return firstDivergence == -1;
+		}
+		
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append(frames).append(" frames");
+			if (elapsedNanos != 0)
+				builder.append(" in ").append(elapsedNanos / 1000000L).append("ms");
+			builder.append(", ").append(failures).append(" failures, final score ").append(finalScore);
+			if (matchesRecording())
+				builder.append(", matches the recording");
+			else
+				builder.append(", diverged from the recording at frame ").append(firstDivergence);
+			return builder.toString();
+		}
+	}
+}
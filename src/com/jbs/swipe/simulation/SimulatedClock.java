@@ -0,0 +1,28 @@
+package com.jbs.swipe.simulation;
+
+import com.jbs.swipe.Clock;
+
+public class SimulatedClock implements Clock {
+	
+	private long nanoTime;
+	
+	/** Create a Clock that starts at zero and only moves when it is advanced. */
+	public SimulatedClock() {
+		this.nanoTime = 0;
+	}
+	
+	/** Move the Clock forward by the specified number of milliseconds. */
+	public void advance(float milliseconds) {
+		nanoTime += (long) (milliseconds * 1E6f);
+	}
+	
+	/** Move the Clock forward by exactly the specified number of nanoseconds. */
+	public void advanceNanos(long nanoseconds) {
+		nanoTime += nanoseconds;
+	}
+	
+	@Override
+	public long nanoTime() {
+		return nanoTime;
+	}
+}
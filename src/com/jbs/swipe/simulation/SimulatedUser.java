@@ -0,0 +1,71 @@
+package com.jbs.swipe.simulation;
+
+import java.util.HashMap;
+
+import com.jbs.swipe.Game;
+import com.jbs.swipe.User;
+import com.jbs.swipe.traps.Bomb;
+import com.jbs.swipe.traps.DarkHole;
+import com.jbs.swipe.traps.Trap;
+
+public class SimulatedUser extends User {
+	
+	private int coins, highScore;
+	private final HashMap<String, Integer> stocks = new HashMap<String, Integer>();
+	
+	/**
+	 * Create a User that is only kept in memory, starting with a copy of the active User's coins, high score and
+	 * traps. Levels played as it by the Simulator and SessionReplayer award and spend its coins instead of the player's.
+	 */
+	public SimulatedUser(Game game) {
+		super(-1, null);
+		final User user = game.user();
+		this.coins = user.jbsCoins();
+		this.highScore = user.highScore();
+		setStock(new Bomb(game), user.stockOf(new Bomb(game)));
+		setStock(new DarkHole(game), user.stockOf(new DarkHole(game)));
+	}
+	
+	@Override
+	public int highScore() {
+		return highScore;
+	}
+	
+	@Override
+	public int jbsCoins() {
+		return coins;
+	}
+	
+	@Override
+	public int stockOf(Trap<?> trap) {
+		final Integer stock = stocks.get(trap.trapName());
+		return (stock == null)? 0 : stock;
+	}
+	
+	@Override
+	public void setStock(Trap<?> trap, int newStock) {
+		stocks.put(trap.trapName(), newStock);
+	}
+	
+	@Override
+	public void setHighScore(int newScore) {
+		highScore = newScore;
+	}
+	
+	@Override
+	public void setCoinCount(int newCount) {
+		coins = newCount;
+	}
+	
+	/** Nothing is saved. */
+	@Override
+	public void save() { }
+	
+	@Override
+	public void dispose() { }
+	
+	@Override
+	protected String username() {
+		return "SimulatedUser";
+	}
+}
@@ -0,0 +1,306 @@
+package com.jbs.swipe.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+import com.jbs.framework.control.ApplicationState;
+import com.jbs.framework.io.InputProxy;
+import com.jbs.swipe.Clock;
+import com.jbs.swipe.Game;
+import com.jbs.swipe.LatencyMonitor;
+import com.jbs.swipe.TouchEvent;
+import com.jbs.swipe.TouchInput;
+import com.jbs.swipe.TouchPointer;
+import com.jbs.swipe.benchmark.CountingBatch;
+import com.jbs.swipe.levels.LevelState;
+import com.jbs.swipe.tiles.Direction;
+import com.jbs.swipe.tiles.SwipeTile;
+
+public class Simulator {
+	
+	/** The default length of a simulated frame in milliseconds. */
+	public static final float DEFAULT_FRAME_TIME = 1000f / 60f;
+	
+	private static final int
+		SWIPE_FRAMES = 4, // The number of frames a synthetic swipe is dragged over.
+		SWIPE_TOUCH_ID = 0; // The touch used for synthetic swipes.
+	private static final float
+		SWIPE_LENGTH = SwipeTile.DEFAULT_SWIPE_MAGNITUDE * 2; // The distance a synthetic swipe is dragged.
+	
+	private final Game game;
+	private final LevelState level;
+	private final Random random;
+	private final SimulatedClock clock;
+	private final ScriptedInput input;
+	private final TouchInput touches;
+	private final LatencyMonitor latency;
+	
+	private float
+		frameTime = DEFAULT_FRAME_TIME,
+		missRate = .1f, // The chance that a synthetic swipe goes in the wrong direction.
+		idleRate = .5f; // The chance that no swipe is started on a frame where one could be.
+	private int scoreSampleInterval = 600;
+	private boolean rendering = false;
+	
+	/* The state of the swipe in progress. */
+	private int swipeFrame = -1;
+	private float swipeStartX, swipeStartY, swipeDirectionX, swipeDirectionY;
+	
+	/**
+	 * Create a Simulator that drives the Level's update loop without rendering, real time or a device.
+	 * The Game must have finished loading its assets. For runs to be repeatable, the Level should not
+	 * have been initialized yet, the Simulator initializes it after seeding the Game. A Level that has been
+	 * initialized already keeps the traps it was given by the active User.
+	 * @param seed The seed for the Game's random number generator and the synthetic swipes.
+	 */
+	public Simulator(Game game, LevelState level, long seed) {
+		this.game = game;
+		this.level = level;
+		this.random = new Random(seed);
+		this.clock = new SimulatedClock();
+		this.input = new ScriptedInput();
+		this.touches = new TouchInput(game.screenWidth(), game.screenHeight());
+		this.latency = new LatencyMonitor();
+		
+		game.setRandomSeed(seed);
+	}
+	
+	/** Set the simulated length of each frame in milliseconds. */
+	public void setFrameTime(float newFrameTime) {
+		if (newFrameTime <= 0)
+			throw new RuntimeException("Frame time must be > 0");
+		this.frameTime = newFrameTime;
+	}
+	
+	/** Set the chance (0 to 1) that a synthetic swipe goes in the wrong direction. */
+	public void setMissRate(float newMissRate) {
+		this.missRate = newMissRate;
+	}
+	
+	/** Set the chance (0 to 1) that the Simulator waits a frame instead of starting a swipe. */
+	public void setIdleRate(float newIdleRate) {
+		this.idleRate = newIdleRate;
+	}
+	
+	/** Set the number of frames between samples of the Level's score. */
+	public void setScoreSampleInterval(int newInterval) {
+		if (newInterval <= 0)
+			throw new RuntimeException("Score sample interval must be > 0");
+		this.scoreSampleInterval = newInterval;
+	}
+	
+	/**
+	 * Set whether the Level is rendered every frame, into a Batch that only counts what is drawn. While rendering,
+	 * the latency from each synthetic touch to the frame that draws the SwipeTile's reaction is measured in
+	 * simulated time and added to the Report. The same seed and settings replay the same touches on every build,
+	 * so the latencies of two builds can be compared.
+	 */
+	public void setRendering(boolean flag) {
+		this.rendering = flag;
+	}
+	
+	/**
+	 * Run the Level for the specified number of frames as fast as possible. The Game's time source, input and
+	 * state are restored when the run is over. When the Level is failed it is restarted and the run continues.
+	 * The Level is played as a SimulatedUser, so the run does not change the active User's coins or high score.
+	 * Score changes that are applied while rendering, like the penalty for a missed swipe, are not simulated.
+	 * @return the throughput, allocation and score statistics of the run.
+	 */
+	public Report run(int frames) {
+		final Clock realClock = game.clock().source();
+		final InputProxy realInput = game.input;
+		final TouchInput realTouches = game.touchInput();
+		final ApplicationState realState = game.applicationState();
+		final LatencyMonitor realLatency = game.latency();
+		final boolean wasRecording = game.recorder().isEnabled();
+		final SimulatedUser user = new SimulatedUser(game);
+		
+		final Report report = new Report(frames, scoreSampleInterval);
+		final CountingBatch batch = rendering? new CountingBatch() : null;
+		
+		game.setClock(clock);
+		game.input = input;
+		game.setTouchInput(touches);
+		game.setLatency(latency);
+		// The Level awards its coins and high score to a copy of the active User.
+		game.setUser(user);
+		// The Simulator seeds the Level itself.
+		game.recorder().setEnabled(false);
+		try {
+			if (!level.initialized())
+				level.initialize();
+			
+			long lastHeap = Gdx.app.getJavaHeap();
+			final long startTime = System.nanoTime();
+			
+			for (int frame = 0; frame != frames; frame ++) {
+				final int failuresBeforeFrame = level.failures();
+				
+				scriptFrame(report);
+				
+				clock.advance(frameTime);
+				game.clock().tick();
+				touches.beginFrame();
+				level.updateApplication(game);
+				if (rendering) {
+					level.renderTo(batch);
+					// Synthetic touches are stamped at the start of the frame they are injected in, so the
+					// latency is a whole number of frames.
+					latency.endFrame(clock.nanoTime());
+				}
+				game.tweenManager().update(game.clock().animationDelta());
+				input.endFrame();
+				
+				if (level.failures() != failuresBeforeFrame) {
+					report.failures ++;
+					level.restart();
+					liftSwipe();
+				}
+				
+				if (frame % scoreSampleInterval == 0)
+					report.scoreSamples[frame / scoreSampleInterval] = level.score().count();
+				
+				// Estimate allocations from the growth of the heap, a shrinking heap means a collection happened.
+				final long heap = Gdx.app.getJavaHeap();
+				if (heap >= lastHeap)
+					report.allocatedBytes += heap - lastHeap;
+				else
+					report.garbageCollections ++;
+				lastHeap = heap;
+			}
+			
+			report.elapsedNanos = System.nanoTime() - startTime;
+			report.finalScore = level.score().count();
+			if (rendering)
+				report.latency = latency;
+		} finally {
+			liftSwipe();
+			touches.beginFrame();
+			game.input = realInput;
+			game.setTouchInput(realTouches);
+			game.setLatency(realLatency);
+			game.setUser(null);
+			game.recorder().setEnabled(wasRecording);
+			game.setClock(realClock);
+			if (batch != null)
+				batch.dispose();
+			if (game.applicationState() != realState)
+				game.setState(realState);
+		}
+		
+		return report;
+	}
+	
+	/** Advance the synthetic swipe in progress, or start a new one on a random Tile. */
+	private void scriptFrame(Report report) {
+		if (swipeFrame == -1) {
+			if (random.nextFloat() < idleRate)
+				return;
+			
+			final List<SwipeTile> tiles = level.tileIndex().tiles();
+			if (tiles.isEmpty())
+				return;
+			final SwipeTile target = tiles.get(random.nextInt(tiles.size()));
+			if (target.isCorrectlySwiped())
+				return;
+			
+			// Swipe the Tile in its direction, or occasionally the opposite direction.
+			Direction direction = target.direction();
+			if (random.nextFloat() < missRate)
+				direction = opposite(direction);
+			
+			swipeStartX = target.x();
+			swipeStartY = target.y();
+			swipeDirectionX = (direction == Direction.RIGHT)? 1 : (direction == Direction.LEFT)? -1 : 0;
+			swipeDirectionY = (direction == Direction.UP)? 1 : (direction == Direction.DOWN)? -1 : 0;
+			
+			input.touchDown(SWIPE_TOUCH_ID, swipeStartX, swipeStartY);
+			touches.inject(TouchEvent.DOWN, SWIPE_TOUCH_ID, swipeStartX, swipeStartY, clock.nanoTime());
+			swipeFrame = 0;
+			report.swipes ++;
+		} else if (swipeFrame < SWIPE_FRAMES) {
+			swipeFrame ++;
+			final float distance = SWIPE_LENGTH * swipeFrame / SWIPE_FRAMES;
+			final float
+				x = swipeStartX + swipeDirectionX * distance,
+				y = swipeStartY + swipeDirectionY * distance;
+			input.dragTo(SWIPE_TOUCH_ID, x, y);
+			touches.inject(TouchEvent.MOVE, SWIPE_TOUCH_ID, x, y, clock.nanoTime());
+		} else
+			liftSwipe();
+	}
+	
+	/** Lift the synthetic swipe's finger, if it is down. */
+	private void liftSwipe() {
+		if (swipeFrame != -1) {
+			final TouchPointer pointer = touches.pointer(SWIPE_TOUCH_ID);
+			touches.inject(TouchEvent.UP, SWIPE_TOUCH_ID, pointer.x(), pointer.y(), clock.nanoTime());
+		}
+		input.reset();
+		swipeFrame = -1;
+	}
+	
+	private static Direction opposite(Direction direction) {
+		if (direction == Direction.RIGHT)
+			return Direction.LEFT;
+		else if (direction == Direction.LEFT)
+			return Direction.RIGHT;
+		else if (direction == Direction.UP)
+			return Direction.DOWN;
+		else
+			return Direction.UP;
+	}
+	
+	/** The results of a simulation run. */
+	public static class Report {
+		
+		public final int frames;
+		public final int[] scoreSamples;
+		public final int scoreSampleInterval;
+		
+		public long
+			elapsedNanos, // The real time the run took.
+			allocatedBytes; // The estimated number of bytes allocated during the run.
+		public int
+			garbageCollections,
+			swipes,
+			failures,
+			finalScore;
+		/** The latency from the touches to the frames that drew the SwipeTiles' reactions, or null if the
+		 * Level was not rendered. */
+		public LatencyMonitor latency;
+		
+		Report(int frames, int scoreSampleInterval) {
+			this.frames = frames;
+			this.scoreSampleInterval = scoreSampleInterval;
+			this.scoreSamples = new int[(frames + scoreSampleInterval - 1) / scoreSampleInterval];
+		}
+		
+		/** @return the number of simulated frames run per real second. */
+		public double framesPerSecond() {
+			return frames / (elapsedNanos * 1E-9);
+		}
+		
+		/** @return the estimated number of bytes allocated per frame. */
+		public double bytesPerFrame() {
+			return (double) allocatedBytes / frames;
+		}
+		
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append("Simulated ").append(frames).append(" frames in ").append(elapsedNanos / 1000000L).append("ms")
+				.append(" (").append((long) framesPerSecond()).append(" frames/sec)\n");
+			builder.append("Allocated ~").append(allocatedBytes).append(" bytes (").append((long) bytesPerFrame()).append(" bytes/frame), ")
+				.append(garbageCollections).append(" collections\n");
+			builder.append(swipes).append(" swipes, ").append(failures).append(" failures, final score ").append(finalScore).append('\n');
+			builder.append("Score every ").append(scoreSampleInterval).append(" frames :");
+			for (int score : scoreSamples)
+				builder.append(' ').append(score);
+			if (latency != null)
+				builder.append('\n').append(latency);
+			return builder.toString();
+		}
+	}
+}
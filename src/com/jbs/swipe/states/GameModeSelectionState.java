@@ -73,6 +73,9 @@ public final class GameModeSelectionState extends GameState {
 	public void enterState() {
 		System.out.println("Entering GameModeSelectionState.");
 		
+		// Stream the assets of both GameModes ahead of the shop's.
+		Assets.prioritize(Assets.FORMATION);
+		Assets.prioritize(Assets.ARCADE);
 		initialize();
 		animateIn();
 		super.enterState();
@@ -139,6 +142,8 @@ public final class GameModeSelectionState extends GameState {
 		advancedButton = new Button(offscreen.cpy(), Assets.getAtlasRegion(ADVANCED_CIRCLE)) {
 			// When the Button is pressed, rotate it very quickly indefinitely.
 			public void onPress() {
+				// The user is about to play the GameMode, so stream its assets next.
+				Assets.prioritize(Assets.FORMATION);
 				new Animator(game)
 					.rotateGraphicIndefinitely(this, ROTATION_ANIMATION_DURATION);
 			}
@@ -151,6 +156,7 @@ public final class GameModeSelectionState extends GameState {
 		normalButton = new Button(offscreen.cpy(), Assets.getAtlasRegion(NORMAL_CIRCLE)) {
 			// When the Button is pressed, rotate it very quickly indefinitely.
 			public void onPress() {
+				Assets.prioritize(Assets.ARCADE);
 				new Animator(game)
 					.rotateGraphicIndefinitely(this, ROTATION_ANIMATION_DURATION);
 			}
@@ -52,7 +52,7 @@ public abstract class GameOverState implements ApplicationState {
 		// Initialize the window Graphic at the center of the Game's screen.
 		window = new Graphic(game.screenCenter(), game.getTexture(WINDOW_SOURCE));
 		// Initialize the Screen's Font.
-		font = new Font(game.getTexture(FONT_SOURCE));
+		font = new Font(game.digitGlyphs(FONT_SOURCE));
 		font.setAlignment(Font.ALIGNMENT_CENTER);
 		
 		// If the buttons have not been initialized,
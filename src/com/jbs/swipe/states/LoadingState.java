@@ -8,6 +8,7 @@ import com.jbs.framework.control.ApplicationState;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.StartupTrace;
 import com.jbs.swipe.gui.LoadingScreen;
 
 public class LoadingState implements ApplicationState {
@@ -38,11 +39,13 @@ public class LoadingState implements ApplicationState {
 	@Override
 	public void enterState() {
 		System.out.println("Entering LoadingState.");
+		StartupTrace.begin("LoadingState");
 	}
 	
 	@Override
 	public void exitState() {
 		System.out.println("Exiting LoadingState.");
+		StartupTrace.end("LoadingState");
 	}
 	
 	@Override
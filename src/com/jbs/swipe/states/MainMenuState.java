@@ -8,6 +8,7 @@ import com.jbs.framework.control.Application;
 import com.jbs.framework.rendering.Graphic;
 import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.StartupTrace;
 import com.jbs.swipe.effects.Animator;
 import com.jbs.swipe.gui.buttons.ShopButton;
 import com.jbs.swipe.gui.buttons.SpinningButton;
@@ -37,9 +38,13 @@ public abstract class MainMenuState extends GameState {
 	@Override
 	public void enterState() {
 		System.out.println("Entering MainMenuState.");
+		StartupTrace.begin("MainMenuState.enterState");
 		
+		// The Arcade Levels are usually played next, so stream their assets first.
+		Assets.prioritize(Assets.ARCADE);
 		initialize();
 		super.enterState();
+		StartupTrace.end("MainMenuState.enterState");
 	}
 	
 	@Override
@@ -10,7 +10,6 @@ import com.jbs.swipe.gui.buttons.HomeButton;
 import com.jbs.swipe.gui.buttons.RestartButton;
 import com.jbs.swipe.gui.buttons.ResumeButton;
 import com.jbs.swipe.levels.LevelState;
-import com.jbs.swipe.tiles.SwipeTile;
 
 public class PausedState extends OverlayState {
 	
@@ -35,7 +34,9 @@ public class PausedState extends OverlayState {
 	public void enterState() {
 		System.out.println("Entering PausedState.");
 		
-		pauseStartTime = System.currentTimeMillis();
+		pauseStartTime = game.clock().realTime();
+		// Stop the Level's game time, the Tiles will not age while the Level is paused.
+		game.clock().pause();
 		
 		// Stop the background music.
 		game.stopBackgroundMusic();
@@ -50,6 +51,7 @@ public class PausedState extends OverlayState {
 	@Override
 	public void exitState() {
 		System.out.println("Exiting PausedState.");
+		game.clock().resume();
 		game.playBackgroundMusic(true);
 	}
 	
@@ -62,9 +64,6 @@ public class PausedState extends OverlayState {
 	
 	/** Resumes the Level that is in the Paused State. */
 	public void unpause() {
-		for (SwipeTile tile : levelState.tiles())
-			if (tile != null)
-				tile.addPausedTime(timePaused());
 		game.setState(levelState);
 	}
 	
@@ -131,6 +130,6 @@ public class PausedState extends OverlayState {
 	}
 	
 	protected final long timePaused() {
-		return System.currentTimeMillis() - pauseStartTime;
+		return game.clock().realTime() - pauseStartTime;
 	}
 }
\ No newline at end of file
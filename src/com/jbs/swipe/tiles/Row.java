@@ -7,6 +7,7 @@ import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.util.Updatable;
 import com.jbs.swipe.Game;
 import com.jbs.swipe.Pattern;
+import com.jbs.swipe.RenderQueue;
 
 public class Row implements Renderable, Updatable {
 	
@@ -45,6 +46,9 @@ public class Row implements Renderable, Updatable {
 	private Pattern<Direction>
 		pattern; // The pattern of the Tiles.
 	
+	private TileGrid
+		tileIndex; // The index to register the Row's Tiles with while the Row is visible.
+	
 	public Row(Game game, TileListener listener, Vector2 center, int numberOfTiles) {
 		this.game = game;
 		this.listener = listener;
@@ -80,6 +84,14 @@ public class Row implements Renderable, Updatable {
 				tile.renderTo(batch);
 	}
 	
+	/** Add all the SwipeTiles in the Row to the RenderQueue. */
+	public void queueTo(RenderQueue queue) {
+		if (this.isVisible())
+			for (SwipeTile tile : tiles)
+				if (tile != null)
+					queue.add(tile.texture(), tile);
+	}
+	
 	/** Update all the SwipeTiles in the Row with the InputProxy. */
 	public void updateTilesWith(InputProxy input) {
 		for (SwipeTile tile : tiles)
@@ -101,6 +113,19 @@ public class Row implements Renderable, Updatable {
 		this.pattern = newPattern;
 	}
 	
+	/** Set the TileGrid to register the Row's SwipeTiles with while the Row is visible. */
+	public void setTileIndex(TileGrid newIndex) {
+		if (this.tileIndex != null)
+			for (SwipeTile tile : tiles)
+				unindex(tile);
+		
+		this.tileIndex = newIndex;
+		
+		if (this.isVisible())
+			for (SwipeTile tile : tiles)
+				index(tile);
+	}
+	
 	/** Randomize the Row's spawning pattern. */
 	public void scramblePattern() {
 		while (pattern.next().equals(pattern.next()))
@@ -150,11 +175,14 @@ public class Row implements Renderable, Updatable {
 			START_INDEX = tileToDissolve,
 			// The Tile-index to insert a new Tile at.
 			INDEX_TO_ADD_TILE_AT = (direction == DIRECTION_RIGHT)? 0 : numberOfTiles + direction;
+		// The Tile being removed from the Row.
+		final SwipeTile dissolvedTile = this.tiles[tileToDissolve];
 		
 		for (int tile = START_INDEX; tile != INDEX_TO_ADD_TILE_AT; tile -= direction) {
 			this.tiles[tile] = this.tiles[tile - direction];
 			this.tiles[tile].setTranslationTarget(getSlot(tile), animationSpeed);
 		}
+		game.tilePool().release(dissolvedTile);
 		
 		this.tiles[INDEX_TO_ADD_TILE_AT] = this.createTileAt(INDEX_TO_ADD_TILE_AT - direction, timeToSwipe, DEFAULT_SCALE, DEFAULT_SCALE);
 		// Animate the Tile to its slot's position.
@@ -191,8 +219,14 @@ public class Row implements Renderable, Updatable {
 	public final void setVisible(boolean flag) {
 		this.visible = flag;
 		for (SwipeTile tile : tiles)
-			if (tile != null)
+			if (tile != null) {
 				tile.setOpacity(flag? 1 : 0);
+				// Only visible Tiles may be touched.
+				if (flag)
+					index(tile);
+				else
+					unindex(tile);
+			}
 	}
 	
 	public final void animateTilesIn() {
@@ -219,8 +253,11 @@ public class Row implements Renderable, Updatable {
 			newNumberOfTiles = numberOfTiles - 1,
 			startCopyingIndex = (direction == DIRECTION_RIGHT)? 1 : 0,
 			endCopyingIndex = (direction == DIRECTION_RIGHT)? numberOfTiles : numberOfTiles - 1;
+		// The Tile that will not be copied into the contracted Row.
+		final SwipeTile droppedTile = tiles[(direction == DIRECTION_RIGHT)? 0 : numberOfTiles - 1];
 		
 		redefineRowSize(newNumberOfTiles, startCopyingIndex, endCopyingIndex, 0);
+		game.tilePool().release(droppedTile);
 		
 		// Set each Tile to animate to its new slot.
 		for (int index = 0; index != tiles.length; index ++)
@@ -302,15 +339,18 @@ public class Row implements Renderable, Updatable {
 		// has to swipe the Tile.
 		SwipeTile tile;
 		if (pattern == null)
-			tile = new SwipeTile(game, timeToSwipe);
+			tile = game.tilePool().acquire(timeToSwipe);
 		else
-			tile = new SwipeTile(game, timeToSwipe, pattern.next());
+			tile = game.tilePool().acquire(timeToSwipe, pattern.next());
 		// Translate the Tile to the specified slot position.
 		tile.setPosition(getSlot(slot));
 		// Set the Tile to use the specified scale.
 		tile.scale(scaleX, scaleY);
 		// Set the Tile to notify the Row of all Swipe events.
 		tile.setSwipeListener(this.listener);
+		// Make the Tile touchable if the Row is.
+		if (this.isVisible())
+			index(tile);
 		
 		return tile;
 	}
@@ -359,6 +399,18 @@ public class Row implements Renderable, Updatable {
 		return this.slotPositions[slotIndex + 1];
 	}
 	
+	/** Register the SwipeTile with the Row's TileGrid, if the Row has one. */
+	private void index(SwipeTile tile) {
+		if (tileIndex != null && tile != null)
+			tileIndex.add(tile);
+	}
+	
+	/** Unregister the SwipeTile from the Row's TileGrid, if the Row has one. */
+	private void unindex(SwipeTile tile) {
+		if (tileIndex != null && tile != null)
+			tileIndex.remove(tile);
+	}
+	
 	/** Return a value that is 'normal' percent between 'start' and 'end'. */
 	protected final Vector2 interpolate(Vector2 start, Vector2 end, float normal) {
 		return new Vector2(interpolate(start.x, end.x, normal), interpolate(start.y, end.y, normal));
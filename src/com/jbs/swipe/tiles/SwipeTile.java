@@ -7,6 +7,7 @@ import aurelienribon.tweenengine.TweenCallback;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
@@ -16,14 +17,17 @@ import com.jbs.framework.rendering.Graphic;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.LatencyMonitor;
 import com.jbs.swipe.Swipe;
+import com.jbs.swipe.SwipePath;
 import com.jbs.swipe.effects.Animator;
 
 public class SwipeTile implements Renderable {
 	
 	public final String
 		INCORRECT_SWIPE_SOUND_SOURCE = "assets/SFX/Incorrect.wav",
-		CORRECT_SWIPE_SOUND_SOURCE = "assets/SFX/Correct.wav",
+		CORRECT_SWIPE_SOUND_SOURCE = "assets/SFX/Correct.wav";
+	public static final String
 		BLUE_TILE_SOURCE = "3second",
 		YELLOW_TILE_SOURCE = "2second",
 		ORANGE_TILE_SOURCE = "1second",
@@ -37,6 +41,16 @@ public class SwipeTile implements Renderable {
 	private static float
 		defaultVolume = .25f; // The default volume to play the SwipeTile's Sounds at.
 	
+	/* The ids of the tile regions in the atlas, so the tile's texture is not looked up by name every frame. */
+	private static final int
+		BLUE_TILE = Assets.regionId(BLUE_TILE_SOURCE),
+		YELLOW_TILE = Assets.regionId(YELLOW_TILE_SOURCE),
+		ORANGE_TILE = Assets.regionId(ORANGE_TILE_SOURCE),
+		RED_TILE = Assets.regionId(RED_TILE_SOURCE),
+		// The arrow is rotated to its Direction, so every Direction shares the gray and green arrow regions.
+		GRAY_ARROW = Assets.regionId("Arrows/arrow"),
+		GREEN_ARROW = Assets.regionId("Arrows/arrowcorrect");
+	
 	public static enum TileState {
 		BLUE, YELLOW, ORANGE, RED, CORRECTLY_SWIPED, INCORRECTLY_SWIPED, EXPIRED, FINISHED
 	}
@@ -57,64 +71,87 @@ public class SwipeTile implements Renderable {
 	private Vector2
 		originalTileSize, // The width and height of the Tile graphic initially.
 		center, // The center of the SwipeTile.
+		previousCenter, // The center of the SwipeTile before the last fixed step, rendering interpolates from it.
 		target; // The position to translate the SwipeTile to.
 	
+	/* The SwipeTile to follow instead of a fixed target, and the offset from it to follow at. */
+	private SwipeTile trackedTile;
+	private final Vector2 trackingOffset = new Vector2();
+	
+	/** The Rectangle that surrounds the SwipeTile, rebuilt only when the SwipeTile moves or is scaled. */
+	private final Rectangle bounds = new Rectangle();
+	private boolean boundsAreDirty = true;
+	
 	private float
 		opacity = 1f,
 		translationDamping, // The damping value to use when translating the SwipeTile to the target position.
 		volume = defaultVolume, // The volume to play the SwipeTile's sounds at.
-		startTime, // The nano time that the SwipeTile was constructed
+		startTime, // The game time (in milliseconds) that the SwipeTile was constructed or reset
 		timeToSwipe, // The time until the SwipeTile expires
 		requiredSwipeDirection, // The required swipe direction in degrees
 		swipeAngleTolerance = 70, // The tolerated inaccuracy for a swipe
 		requiredSwipeMagnitude; // The required swipe magnitude;
 	
 	private Swipe currentSwipe;
-	private int maxInputs = 2;
-	private boolean[] storedTouchStates;
+	/* True until the SwipeTile's reaction to a Swipe has been drawn, and the nano time the touch
+	 * that the reaction is to arrived. */
+	private boolean feedbackIsPending;
+	private long feedbackInputTime;
+	private int feedbackKind;
 	
 	private Game game;
 	private TileState tileState;
 	private TileListener listener;
 	
+	/* The TileGrid that routes touches to the SwipeTile, and the range of cells it
+	 * last occupied in that grid. Maintained by the TileGrid. */
+	TileGrid grid;
+	int gridMinColumn, gridMinRow, gridMaxColumn, gridMaxRow;
+	/* The last query of the TileGrid that tested the SwipeTile. Maintained by the TileGrid. */
+	int gridQuery;
+	
+	/* True while the SwipeTile is sitting unused in a SwipeTilePool. Maintained by the SwipeTilePool. */
+	boolean pooled;
+	/* The number of times the SwipeTile has been recycled. */
+	private int generation;
+	
 	public SwipeTile(final Game game, Vector2 swipeRequirement, TextureRegion arrowGreen, TextureRegion arrowGray, float timeToSwipe) {
 		this.game = game;
 		this.arrowGreen = arrowGreen;
 		this.arrowGray = arrowGray;
 		this.tileState = defaultTileState;
 		
-		this.storedTouchStates = new boolean[maxInputs];
-		
 		// Default center of the SwipeTile is the center of the Game's Screen.
 		this.center = game.screenCenter();
+		this.previousCenter = center.cpy();
 		
 		final SwipeTile swipeTile = this;
-		this.tile = new Graphic(new Vector2(x(), y()), Assets.getAtlasRegion(BLUE_TILE_SOURCE)) {
+		this.tile = new Graphic(new Vector2(x(), y()), Assets.getAtlasRegion(BLUE_TILE)) {
 			// Store the last Texture returned by the texture() method.
 			TextureRegion lastTextureUsed;
 			// Texture to use if all else fails.
-			TextureRegion defaultTexture = Assets.getAtlasRegion(BLUE_TILE_SOURCE);
+			TextureRegion defaultTexture = Assets.getAtlasRegion(BLUE_TILE);
 			
 			// The center of the tile Graphic is the center of the SwipeTile.
 			@Override
 			public float x() {
-				return swipeTile.x();
+				return swipeTile.renderX();
 			}
 			@Override
 			public float y() {
-				return swipeTile.y();
+				return swipeTile.renderY();
 			}
 			@Override
 			public TextureRegion texture() {
 				final TextureRegion textureToBeUsed;
 				if (tileState() == TileState.BLUE)
-					textureToBeUsed = Assets.getAtlasRegion(BLUE_TILE_SOURCE);
+					textureToBeUsed = Assets.getAtlasRegion(BLUE_TILE);
 				else if (tileState() == TileState.YELLOW)
-					textureToBeUsed = Assets.getAtlasRegion(YELLOW_TILE_SOURCE);
+					textureToBeUsed = Assets.getAtlasRegion(YELLOW_TILE);
 				else if (tileState() == TileState.ORANGE)
-					textureToBeUsed = Assets.getAtlasRegion(ORANGE_TILE_SOURCE);
+					textureToBeUsed = Assets.getAtlasRegion(ORANGE_TILE);
 				else if (tileState() == TileState.RED)
-					textureToBeUsed = Assets.getAtlasRegion(RED_TILE_SOURCE);
+					textureToBeUsed = Assets.getAtlasRegion(RED_TILE);
 				// If the correct Texture to use cannot be determined, use the last Texture used.
 				else
 					if (lastTextureUsed == null)
@@ -136,11 +173,11 @@ public class SwipeTile implements Renderable {
 			// The center of the arrow is the center of the SwipeTile.
 			@Override
 			public float x() {
-				return swipeTile.x();
+				return swipeTile.renderX();
 			}
 			@Override
 			public float y() {
-				return swipeTile.y();
+				return swipeTile.renderY();
 			}
 		};
 		
@@ -149,7 +186,7 @@ public class SwipeTile implements Renderable {
 		
 		this.scale(DEFAULT_SCALE);
 		
-		startTime = System.nanoTime();
+		startTime = game.clock().time();
 		
 		originalTileSize = new Vector2(tile.height(), tile.height());
 	}
@@ -180,8 +217,15 @@ public class SwipeTile implements Renderable {
 
 	@Override
 	public void renderTo(SpriteBatch batch) {
-		Color oldBatchColor = batch.getColor();
-		batch.setColor(oldBatchColor.r, oldBatchColor.g, oldBatchColor.b, this.opacity());
+		// Store the components of the Batch's color rather than the Color itself, the Batch may
+		// reuse the Color it returns.
+		final Color batchColor = batch.getColor();
+		final float
+			r = batchColor.r,
+			g = batchColor.g,
+			b = batchColor.b,
+			a = batchColor.a;
+		batch.setColor(r, g, b, this.opacity());
 		
 		// First render the background tile to the batch.
 		tile.renderTo(batch);
@@ -189,7 +233,13 @@ public class SwipeTile implements Renderable {
 		// Next, render the arrow to the batch.
 		arrow.renderTo(batch);
 		
-		batch.setColor(oldBatchColor);
+		// This is the first frame that shows the SwipeTile reacting to the touch.
+		if (feedbackIsPending) {
+			game.latency().feedbackDrawn(feedbackKind, feedbackInputTime);
+			feedbackIsPending = false;
+		}
+		
+		batch.setColor(r, g, b, a);
 	}
 	
 	public void updateWith(InputProxy input) {
@@ -201,39 +251,50 @@ public class SwipeTile implements Renderable {
 			if (tileState != lifecycle[lifecycleStage()] && tileState != TileState.INCORRECTLY_SWIPED)
 				setState(lifecycle[lifecycleStage()]);
 			
-			if (currentSwipe == null) {
-				for (int i = 0; i != 2; i ++) {
-					if (this.contains(positionOf(input, i)) && input.isTouched(i))
-						currentSwipe = new Swipe(input, i, !input.justTouched(), requiredSwipeMagnitude) {
-							@Override
-							public void onExpire() {
-								if (currentSwipe.checkAngle(requiredSwipeDirection, swipeAngleTolerance)) {
-									if (canChangeStateTo(TileState.CORRECTLY_SWIPED))
-										// Set the SwipeTile to it's correctly-swiped State.
-										setState(TileState.CORRECTLY_SWIPED);
-								} else if (!currentSwipe.isComboSwipe()) {
-									if (canChangeStateTo(TileState.INCORRECTLY_SWIPED))
-										// Enter the Incorrectly swiped State.
-										setState(TileState.INCORRECTLY_SWIPED);
-								}
-								currentSwipe = null;
-							}
-						};
-				}
-			} else
-				currentSwipe.updateExpiration();
+			// The SwipeRecognizer begins and expires the SwipeTile's Swipes.
 		}
+	}
+	
+	/** Begin a Swipe along the finger's path. Called by the SwipeRecognizer when the path enters the SwipeTile.
+	 * @param swipe The SwipeRecognizer's Swipe to begin, which it reuses once the Swipe has expired.
+	 * @param x The x-coordinate on the SwipeTile's bounds that the path entered it at.
+	 * @param y The y-coordinate on the SwipeTile's bounds that the path entered it at.
+	 * @param time The time the path entered the SwipeTile in milliseconds since the path began.
+	 * @param comboSwipe True if the finger was already down before it reached the SwipeTile.
+	 * @return false if the SwipeTile is already being swiped or has been correctly swiped, and the Swipe was not begun. */
+	public boolean beginSwipe(Swipe swipe, SwipePath path, float x, float y, float time, boolean comboSwipe) {
+		if (currentSwipe != null || this.isCorrectlySwiped())
+			return false;
 		
-		for (int i = 0; i != maxInputs; i ++)
-			storedTouchStates[i] = input.isTouched(i);
+		swipe.begin(this, path, x, y, time, comboSwipe, requiredSwipeMagnitude);
+		currentSwipe = swipe;
+		return true;
+	}
+	
+	/** Judge the SwipeTile's Swipe once it has expired. Called by the Swipe. */
+	public void judge(Swipe swipe) {
+		if (swipe != currentSwipe)
+			return;
+		
+		if (swipe.checkAngle(requiredSwipeDirection, swipeAngleTolerance)) {
+			if (canChangeStateTo(TileState.CORRECTLY_SWIPED))
+				// Set the SwipeTile to it's correctly-swiped State.
+				setState(TileState.CORRECTLY_SWIPED, true, swipe);
+		} else if (!swipe.isComboSwipe()) {
+			if (canChangeStateTo(TileState.INCORRECTLY_SWIPED))
+				// Enter the Incorrectly swiped State.
+				setState(TileState.INCORRECTLY_SWIPED, true, swipe);
+		}
+		currentSwipe = null;
 	}
 	
 	/** Reset the SwipeTile to it's state when it was constructed (Excluding the volume). */
 	public void reset() {
 		// Reset the SwipeTile's state data.
-		startTime = System.nanoTime();
+		startTime = game.clock().time();
 		// Reset the Tile's State.
 		tileState = defaultTileState;
+		invalidateBounds();
 		// Reset the opacity
 		opacity = 1;
 		// Refresh the arrow's Texture.
@@ -255,6 +316,50 @@ public class SwipeTile implements Renderable {
 			setTranslationTarget(target.x, target.y, damping);
 	}
 	
+	/** Follow the specified SwipeTile at the specified offset instead of translating to a fixed target.
+	 * Once the followed Tile has been correctly swiped, the SwipeTile closes the gap by moving into it's place.
+	 * @param tileToFollow The SwipeTile to follow, or null to stop following. */
+	public void setTrackingTarget(SwipeTile tileToFollow, float offsetX, float offsetY, float damping) {
+		this.trackedTile = tileToFollow;
+		this.trackingOffset.set(offsetX, offsetY);
+		this.translationDamping = damping;
+	}
+	
+	/** Continue the movement of the specified SwipeTile in it's place. Called on the Tiles following
+	 * a SwipeTile that is about to be removed from the Level, so they do not follow a recycled Tile. */
+	public void takeOverMovementOf(SwipeTile departingTile) {
+		if (departingTile.trackedTile != null)
+			setTrackingTarget(departingTile.trackedTile, departingTile.trackingOffset.x, departingTile.trackingOffset.y, departingTile.translationDamping);
+		else {
+			trackedTile = null;
+			if (departingTile.target != null)
+				setTranslationTarget(departingTile.target, departingTile.translationDamping);
+			else
+				setTranslationTarget(departingTile.x(), departingTile.y(), translationDamping);
+		}
+	}
+	
+	/** @return the SwipeTile that this SwipeTile is following, or null if it is not following a Tile. */
+	public final SwipeTile trackingTarget() {
+		return this.trackedTile;
+	}
+	
+	/** @return true if the SwipeTile is sitting unused in a SwipeTilePool. */
+	public final boolean isPooled() {
+		return this.pooled;
+	}
+	
+	/** @return the number of times the SwipeTile has been returned to its pool. Code that keeps hold of a pooled
+	 * SwipeTile keeps its generation too, a different generation means the Tile has since been reused. */
+	public final int generation() {
+		return this.generation;
+	}
+	
+	/** Set the time until the SwipeTile expires in milliseconds. */
+	public void setTimeToSwipe(float newTimeToSwipe) {
+		this.timeToSwipe = newTimeToSwipe;
+	}
+	
 	/* Set the volume to play the SwipeTile's Sounds at. */
 	public void setVolume(float newVolume) {
 		this.volume = newVolume;
@@ -265,9 +370,12 @@ public class SwipeTile implements Renderable {
 		this.volume = defaultVolume;
 	}
 	
-	/** Translate the SwipeTile by the specified amount. */
+	/** Translate the SwipeTile by the specified amount. The translation is not interpolated, the SwipeTile
+	 * is rendered at its new position straight away. */
 	public void translate(float amountX, float amountY) {
 		this.center.add(amountX, amountY);
+		this.previousCenter.add(amountX, amountY);
+		invalidateBounds();
 	}
 	
 	/** Set the opacity to render the Tile at. */
@@ -279,6 +387,7 @@ public class SwipeTile implements Renderable {
 	public void scale(float scalarX, float scalarY) {
 		tile.scale(scalarX, scalarY);
 		arrow.scale(scalarX, scalarY);
+		invalidateBounds();
 	}
 	
 	/**
@@ -308,6 +417,8 @@ public class SwipeTile implements Renderable {
 		this.arrowGray = SwipeTile.getArrow(game, direction, false);
 		// Set the required swipe direction to the new direction.
 		setSwipeRequirement(SwipeTile.createSwipe(direction, requiredSwipeMagnitude));
+		// Point the arrow in the new direction.
+		arrow.setRotation(requiredSwipeDirection);
 		// Refresh the arrow so it uses the new Textures.
 		refreshArrow();
 	}
@@ -366,7 +477,12 @@ public class SwipeTile implements Renderable {
 	
 	/** @return true if the point is within the SwipeTile's bounds. */
 	public boolean contains(Vector2 point) {
-		return boundingBox().contains(point.x, point.y);
+		return contains(point.x, point.y);
+	}
+	
+	/** @return true if the point (x, y) is within the SwipeTile's bounds. */
+	public boolean contains(float x, float y) {
+		return boundingBox().contains(x, y);
 	}
 	
 	/** @return the listener of this Tile's events. */
@@ -397,8 +513,7 @@ public class SwipeTile implements Renderable {
 	 * @param scalarY The y-Component of the new scale.
 	 */
 	public final void setScale(float scalarX, float scalarY) {
-		final Vector2 oldScale = this.scale();
-		this.scale(scalarX/oldScale.x, scalarY/oldScale.y);
+		this.scale(scalarX/scaleX(), scalarY/scaleY());
 	}
 	
 	/** Set the rotation of the SwipeTile.
@@ -418,8 +533,22 @@ public class SwipeTile implements Renderable {
 		setPosition(newPosition.x, newPosition.y);
 	}
 	
-	/** Update the SwipeTile's translation animation. */
+	/** Update the SwipeTile's translation animation by the number of fixed steps that have passed this frame.
+	 * The damping values are applied once per step, so Tiles move at the same speed at any frame rate. */
 	public void updateTranslationAnimation() {
+		for (int step = game.clock().steps(); step != 0; step --)
+			stepTranslationAnimation();
+	}
+	
+	/** Advance the SwipeTile's translation animation by one fixed step. */
+	private void stepTranslationAnimation() {
+		// Rendering interpolates from where the SwipeTile was before this step.
+		previousCenter.set(center);
+		
+		if (trackedTile != null) {
+			stepTrackingAnimation();
+			return;
+		}
 		if (target == null)
 			return;
 		
@@ -431,15 +560,46 @@ public class SwipeTile implements Renderable {
 			newX = this.x() + (deltaX * translationDamping),
 			newY = this.y() + (deltaY * translationDamping);
 		
-		// Set the SwipeTile to the new-coordinates.
-		setPosition(newX, newY);
+		// Step the SwipeTile to the new-coordinates.
+		stepTo(newX, newY);
 	}
 	
-	/** Add to the total amount of time that the Tile was paused for. This will delay
-	 * expiration of the Tile.
-	 * @param timePaused the amount of time the Tile was paused in milliseconds. */
-	public final void addPausedTime(float timePaused) {
-		startTime += timePaused * 1E6f;
+	/** Move the SwipeTile towards the Tile it is following by one fixed step. */
+	private void stepTrackingAnimation() {
+		final TileState leaderState = trackedTile.tileState();
+		
+		// Once the followed Tile has been swiped, move into it's place.
+		if (leaderState == TileState.CORRECTLY_SWIPED || leaderState == TileState.FINISHED)
+			trackingOffset.set(0, 0);
+		// A finished Tile is no longer updated by it's Level, so keep it moving on it's behalf.
+		if (leaderState == TileState.FINISHED)
+			trackedTile.stepTranslationAnimation();
+		
+		final float
+			// Declare the distance to the followed Tile's position.
+			deltaX = trackedTile.x() + trackingOffset.x - this.x(),
+			deltaY = trackedTile.y() + trackingOffset.y - this.y(),
+			// Declare the new coordinates for the SwipeTile to use.
+			newX = this.x() + (deltaX * translationDamping),
+			newY = this.y() + (deltaY * translationDamping);
+		
+		stepTo(newX, newY);
+	}
+	
+	/** Move the SwipeTile's center as part of a fixed step, leaving the previous center for interpolation. */
+	private void stepTo(float x, float y) {
+		center.set(x, y);
+		invalidateBounds();
+	}
+	
+	/** @return the x-Coordinate to render the center of the SwipeTile at, between its last two stepped positions. */
+	protected final float renderX() {
+		return previousCenter.x + (center.x - previousCenter.x) * game.clock().interpolation();
+	}
+	
+	/** @return the y-Coordinate to render the center of the SwipeTile at, between its last two stepped positions. */
+	protected final float renderY() {
+		return previousCenter.y + (center.y - previousCenter.y) * game.clock().interpolation();
 	}
 	
 	/** @return the x-Coordinate of the center of the SwipeTile. */
@@ -467,7 +627,22 @@ public class SwipeTile implements Renderable {
 	 * @return The scale of the Tile relative to it's initial size.
 	 */
 	public final Vector2 scale() {
-		return new Vector2(tile.width() / originalTileSize.x, tile.height() / originalTileSize.y);
+		return new Vector2(scaleX(), scaleY());
+	}
+	
+	/** @return the horizontal scale of the Tile relative to it's initial size. */
+	public final float scaleX() {
+		return tile.width() / originalTileSize.x;
+	}
+	
+	/** @return the vertical scale of the Tile relative to it's initial size. */
+	public final float scaleY() {
+		return tile.height() / originalTileSize.y;
+	}
+	
+	/** @return the Texture the SwipeTile's background is drawn from. */
+	public final Texture texture() {
+		return tile.texture().getTexture();
 	}
 	
 	/** @return the time the SwipeTile's arrow should remain green before
@@ -486,6 +661,14 @@ public class SwipeTile implements Renderable {
 	/** Set the State of the SwipeTile.
 	 * @param react Set to true if the Tile should react to its change in state. */
 	public void setState(TileState newState, boolean react) {
+		this.setState(newState, react, null);
+	}
+	
+	/** Set the State of the SwipeTile in reaction to a Swipe.
+	 * @param react Set to true if the Tile should react to its change in state.
+	 * @param cause The Swipe the change reacts to, so the latency from its touch until the change is drawn
+	 * can be measured. Null if the change is not a reaction to a Swipe. */
+	public void setState(TileState newState, boolean react, Swipe cause) {
 		if (tileState == newState) {
 			System.err.println("Cannot set a Tile to the state it is already in : " + newState);
 			return;
@@ -496,8 +679,16 @@ public class SwipeTile implements Renderable {
 		}
 		TileState oldState = this.tileState;
 		this.tileState = newState;
+		// The tile's Texture, and therefore it's size, depends on it's State.
+		invalidateBounds();
 		refreshArrow();
 		
+		if (react && cause != null && (newState == TileState.CORRECTLY_SWIPED || newState == TileState.INCORRECTLY_SWIPED)) {
+			feedbackIsPending = true;
+			feedbackInputTime = cause.inputTime();
+			feedbackKind = (newState == TileState.CORRECTLY_SWIPED)? LatencyMonitor.CORRECT_SWIPE : LatencyMonitor.INCORRECT_SWIPE;
+		}
+		
 		if (react)
 			if (newState == TileState.CORRECTLY_SWIPED) {
 				// Play the correct-swipe sound.
@@ -532,10 +723,56 @@ public class SwipeTile implements Renderable {
 		return this.tileState;
 	}
 	
-	/** @return the Rectangle that surrounds the SwipeTile. */
+	/** @return the Rectangle that surrounds the SwipeTile. The Rectangle is owned by the
+	 * SwipeTile and must not be modified. */
 	protected Rectangle boundingBox() {
-		Vector2 bottomLeft = new Vector2(this.x() - tile.width()/2, this.y() - tile.height()/2);
-		return new Rectangle(bottomLeft.x, bottomLeft.y, tile.width(), tile.height());
+		if (boundsAreDirty) {
+			final float
+				width = tile.width(),
+				height = tile.height();
+			bounds.set(this.x() - width/2, this.y() - height/2, width, height);
+			boundsAreDirty = false;
+		}
+		return bounds;
+	}
+	
+	/** Return the SwipeTile to the condition it was constructed in so it can be reused by a
+	 * SwipeTilePool. The SwipeTile is removed from it's TileGrid and forgets it's listener,
+	 * translation target and tracking target. Running Tweens must be killed by the caller. */
+	void recycle() {
+		generation ++;
+		if (grid != null)
+			grid.remove(this);
+		
+		listener = null;
+		// The SwipeTile's Swipe may still be in progress, it must not be judged once the SwipeTile is reused.
+		if (currentSwipe != null)
+			currentSwipe.cancel();
+		currentSwipe = null;
+		feedbackIsPending = false;
+		target = null;
+		trackedTile = null;
+		trackingOffset.set(0, 0);
+		translationDamping = 0;
+		volume = defaultVolume;
+		
+		// Undo any spinning and scaling, a shrunken Tile may have been scaled all the way to zero.
+		tile.setRotation(0);
+		arrow.setRotation(requiredSwipeDirection);
+		tile.setScale(DEFAULT_SCALE, DEFAULT_SCALE);
+		arrow.setScale(DEFAULT_SCALE, DEFAULT_SCALE);
+		center.set(game.screenWidth()/2, game.screenHeight()/2);
+		previousCenter.set(center);
+		
+		reset();
+	}
+	
+	/** Mark the SwipeTile's bounding box as out of date and re-index the SwipeTile
+	 * in it's TileGrid. */
+	private void invalidateBounds() {
+		boundsAreDirty = true;
+		if (grid != null)
+			grid.move(this);
 	}
 	
 	/** Refresh the SwipeTile's arrow's Texture. */
@@ -562,7 +799,7 @@ public class SwipeTile implements Renderable {
 	 */
 	protected final float deltaTime() {
 		// Return the difference in time since the start time converted to milliseconds.
-		return (System.nanoTime() - startTime) * 1E-6f;
+		return game.clock().time() - startTime;
 	}
 	
 	/** @return the time when the SwipeTile will expire. */
@@ -572,14 +809,7 @@ public class SwipeTile implements Renderable {
 	
 	/** @return the time until the SwipeTile expires. */
 	protected final float timeUntilExpiration() {
-		return expirationTime() - deltaTime();
-	}
-	
-	/**
-	 * @return a new Vector2 constructed with the input's x and y screen coordinates.
-	 */
-	protected final Vector2 positionOf(InputProxy input, int touchID) {
-		return new Vector2(input.getX(touchID), input.getY(touchID));
+		return expirationTime() - game.clock().time();
 	}
 	
 	/**
@@ -599,18 +829,20 @@ public class SwipeTile implements Renderable {
 			throw new RuntimeException("Error in SwipeTile.createSwipe : Unknown direction " + direction);
 	}
 	
+	/** @return the region of the arrow for the Direction, green or gray. Every Direction uses the same regions, the arrow
+	 * is rotated to point in its Direction. The region is shared, so it must not be modified. */
 	public static TextureRegion getArrow(Game game, Direction direction, boolean green) {
-		// The head of the arrow's source is the same regardless of direction.
-		String header = "Arrows/";
-		// The footer of the file depends on whether we are retrieving the green or grey arrow.
-		String footer = !green? "arrow" : "arrowcorrect";
-		
-		return Assets.getAtlasRegion(header+footer);
+		return Assets.getAtlasRegion(green? GREEN_ARROW : GRAY_ARROW);
 	}
 	
-	/** @return a random Direction object. */
+	/** @return a random Direction object chosen with the Game's random number generator. */
 	public static Direction randomDirection() {
-		int i = new Random().nextInt(5);
+		return randomDirection(Game.game.random());
+	}
+	
+	/** @return a random Direction object chosen with the specified random number generator. */
+	public static Direction randomDirection(Random random) {
+		int i = random.nextInt(5);
 		
 		if (i == 0)
 			return Direction.RIGHT;
@@ -0,0 +1,86 @@
+package com.jbs.swipe.tiles;
+
+import java.util.ArrayList;
+
+import com.jbs.swipe.Game;
+
+public class SwipeTilePool {
+	
+	/** The maximum number of unused SwipeTiles to keep, extra released Tiles are left for the garbage collector. */
+	public static final int MAXIMUM_FREE_TILES = 256;
+	
+	private final Game game;
+	/* The SwipeTiles that are ready to be reused. */
+	private final ArrayList<SwipeTile> freeTiles;
+	
+	private int
+		hits, // The number of Tiles that were reused.
+		misses; // The number of Tiles that had to be constructed.
+	
+	/** Create a pool of reusable SwipeTiles so Levels do not construct a new SwipeTile, with it's
+	 * Graphics and atlas lookups, every time a Tile is spawned. */
+	public SwipeTilePool(Game game) {
+		this.game = game;
+		this.freeTiles = new ArrayList<SwipeTile>();
+	}
+	
+	/** @return a SwipeTile in it's default state at the center of the screen facing the specified Direction.
+	 * @param timeToSwipe The time until the SwipeTile expires in milliseconds. */
+	public SwipeTile acquire(float timeToSwipe, Direction direction) {
+		if (freeTiles.isEmpty()) {
+			misses ++;
+			return new SwipeTile(game, timeToSwipe, direction);
+		}
+		
+		hits ++;
+		final SwipeTile tile = freeTiles.remove(freeTiles.size() - 1);
+		tile.pooled = false;
+		tile.setTimeToSwipe(timeToSwipe);
+		tile.setDirection(direction);
+		// Restart the Tile's lifecycle now that it is back in play.
+		tile.reset();
+		
+		return tile;
+	}
+	
+	/** @return a SwipeTile in it's default state at the center of the screen facing a random Direction.
+	 * @param timeToSwipe The time until the SwipeTile expires in milliseconds. */
+	public SwipeTile acquire(float timeToSwipe) {
+		return acquire(timeToSwipe, SwipeTile.randomDirection());
+	}
+	
+	/** Return the SwipeTile to the pool. The Tile's Tweens are killed, it is removed from it's TileGrid, and
+	 * it forgets it's listener and targets. The Tile must not be used again until it is re-acquired. */
+	public void release(SwipeTile tile) {
+		if (tile.pooled)
+			throw new RuntimeException("Cannot release a SwipeTile that is already in the pool.");
+		
+		game.tweenManager().killTarget(tile);
+		tile.recycle();
+		
+		if (freeTiles.size() < MAXIMUM_FREE_TILES) {
+			tile.pooled = true;
+			freeTiles.add(tile);
+		}
+	}
+	
+	/** Discard all the unused SwipeTiles. */
+	public void clear() {
+		freeTiles.clear();
+	}
+	
+	/** @return the number of SwipeTiles waiting to be reused. */
+	public int free() {
+		return freeTiles.size();
+	}
+	
+	/** @return the number of acquired SwipeTiles that were reused. */
+	public int hits() {
+		return hits;
+	}
+	
+	/** @return the number of acquired SwipeTiles that had to be constructed. */
+	public int misses() {
+		return misses;
+	}
+}
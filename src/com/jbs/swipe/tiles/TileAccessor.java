@@ -1,7 +1,5 @@
 package com.jbs.swipe.tiles;
 
-import com.badlogic.gdx.math.Vector2;
-
 import aurelienribon.tweenengine.TweenAccessor;
 
 public class TileAccessor implements TweenAccessor<SwipeTile> {
@@ -19,9 +17,8 @@ public class TileAccessor implements TweenAccessor<SwipeTile> {
 				returnValues[0] = target.opacity();
 				return 2;
 			case SCALE_TWEEN:
-				final Vector2 scale = target.scale();
-				returnValues[0] = scale.x;
-				returnValues[1] = scale.y;
+				returnValues[0] = target.scaleX();
+				returnValues[1] = target.scaleY();
 				return 2;
 			case POSITION_TWEEN:
 				returnValues[0] = target.x();
@@ -0,0 +1,229 @@
+package com.jbs.swipe.tiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.FloatArray;
+
+public class TileGrid {
+	
+	/* The size of each (square) cell in pixels. */
+	private final float cellSize;
+	private final int columns, rows;
+	
+	/* The SwipeTiles that overlap each cell, indexed by (row * columns + column). */
+	private final ArrayList<SwipeTile>[] cells;
+	/* Every SwipeTile registered with the TileGrid. */
+	private final ArrayList<SwipeTile> tiles;
+	/* Counts the queries, so a SwipeTile in several cells is only tested once per query. */
+	private int query;
+	
+	/** Create a uniform grid that indexes SwipeTiles by the area of the screen they cover.
+	 * SwipeTiles outside of the grid's area are indexed in the nearest edge cell.
+	 * @param width The width of the indexed area in pixels.
+	 * @param height The height of the indexed area in pixels.
+	 * @param cellSize The width and height of each cell in pixels. */
+	@SuppressWarnings("unchecked")
+	public TileGrid(int width, int height, float cellSize) {
+		if (cellSize <= 0)
+			throw new RuntimeException("cellSize must be > 0");
+		
+		this.cellSize = cellSize;
+		this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+		this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+		
+		this.cells = new ArrayList[columns * rows];
+		for (int i = 0; i != cells.length; i ++)
+			cells[i] = new ArrayList<SwipeTile>(4);
+		this.tiles = new ArrayList<SwipeTile>();
+	}
+	
+	/** Register the SwipeTile with the TileGrid. The SwipeTile keeps the TileGrid up to date
+	 * as it moves until it is removed. */
+	public void add(SwipeTile tile) {
+		if (tile.grid == this)
+			return;
+		// A SwipeTile may only be indexed by one TileGrid at a time.
+		if (tile.grid != null)
+			tile.grid.remove(tile);
+		
+		tile.grid = this;
+		tiles.add(tile);
+		insert(tile);
+	}
+	
+	/** Unregister the SwipeTile from the TileGrid. Does nothing if the Tile is not registered. */
+	public void remove(SwipeTile tile) {
+		if (tile.grid != this)
+			return;
+		
+		erase(tile);
+		tiles.remove(tile);
+		tile.grid = null;
+	}
+	
+	/** Unregister all the SwipeTiles from the TileGrid. */
+	public void clear() {
+		for (int i = 0; i != tiles.size(); i ++)
+			tiles.get(i).grid = null;
+		tiles.clear();
+		
+		for (ArrayList<SwipeTile> cell : cells)
+			cell.clear();
+	}
+	
+	/** Find the SwipeTiles that the segment from (x0, y0) to (x1, y1) enters, ordered by how far along the
+	 * segment it enters them. A segment of zero length finds the SwipeTiles under the point.
+	 * @param tiles Cleared, then filled with the SwipeTiles.
+	 * @param entries Cleared, then filled with how far along the segment (0 to 1) each SwipeTile is entered. */
+	public void crossedBy(float x0, float y0, float x1, float y1, ArrayList<SwipeTile> tiles, FloatArray entries) {
+		tiles.clear();
+		entries.clear();
+		// SwipeTiles that cover several of the cells are only tested once.
+		query ++;
+		
+		final int
+			minColumn = column(Math.min(x0, x1)),
+			maxColumn = column(Math.max(x0, x1)),
+			minRow = row(Math.min(y0, y1)),
+			maxRow = row(Math.max(y0, y1));
+		for (int row = minRow; row <= maxRow; row ++)
+			for (int column = minColumn; column <= maxColumn; column ++) {
+				final ArrayList<SwipeTile> cell = cells[row * columns + column];
+				for (int i = 0; i != cell.size(); i ++) {
+					final SwipeTile tile = cell.get(i);
+					if (tile.gridQuery == query)
+						continue;
+					tile.gridQuery = query;
+					
+					final float entry = entryOf(tile.boundingBox(), x0, y0, x1, y1);
+					if (entry < 0)
+						continue;
+					// Insert the SwipeTile in the order it was entered.
+					int index = entries.size;
+					while (index > 0 && entries.get(index - 1) > entry)
+						index --;
+					tiles.add(index, tile);
+					entries.insert(index, entry);
+				}
+			}
+	}
+	
+	/** @return all the SwipeTiles registered with the TileGrid. The List must not be modified. */
+	public List<SwipeTile> tiles() {
+		return this.tiles;
+	}
+	
+	/** @return the number of SwipeTiles registered with the TileGrid. */
+	public int size() {
+		return tiles.size();
+	}
+	
+	/** Re-index the SwipeTile if it has moved into a different set of cells. Called by
+	 * the SwipeTile whenever it's bounds change. */
+	void move(SwipeTile tile) {
+		final Rectangle bounds = tile.boundingBox();
+		final int
+			minColumn = column(bounds.x),
+			minRow = row(bounds.y),
+			maxColumn = column(bounds.x + bounds.width),
+			maxRow = row(bounds.y + bounds.height);
+		
+		// If the SwipeTile still covers the same cells, there is nothing to do.
+		if (minColumn == tile.gridMinColumn && minRow == tile.gridMinRow &&
+				maxColumn == tile.gridMaxColumn && maxRow == tile.gridMaxRow)
+			return;
+		
+		erase(tile);
+		insert(tile, minColumn, minRow, maxColumn, maxRow);
+	}
+	
+	/** Add the SwipeTile to all the cells its bounds overlap. */
+	private void insert(SwipeTile tile) {
+		final Rectangle bounds = tile.boundingBox();
+		insert(tile,
+				column(bounds.x),
+				row(bounds.y),
+				column(bounds.x + bounds.width),
+				row(bounds.y + bounds.height));
+	}
+	
+	private void insert(SwipeTile tile, int minColumn, int minRow, int maxColumn, int maxRow) {
+		for (int row = minRow; row <= maxRow; row ++)
+			for (int column = minColumn; column <= maxColumn; column ++)
+				cells[row * columns + column].add(tile);
+		
+		tile.gridMinColumn = minColumn;
+		tile.gridMinRow = minRow;
+		tile.gridMaxColumn = maxColumn;
+		tile.gridMaxRow = maxRow;
+	}
+	
+	/** Remove the SwipeTile from all the cells it was last inserted into. */
+	private void erase(SwipeTile tile) {
+		for (int row = tile.gridMinRow; row <= tile.gridMaxRow; row ++)
+			for (int column = tile.gridMinColumn; column <= tile.gridMaxColumn; column ++)
+				cells[row * columns + column].remove(tile);
+	}
+	
+	/** @return how far along the segment (0 to 1) it enters the rectangle, 0 if it starts inside it,
+	 * or -1 if it misses it. */
+	private static float entryOf(Rectangle bounds, float x0, float y0, float x1, float y1) {
+		final float
+			deltaX = x1 - x0,
+			deltaY = y1 - y0;
+		float entry = 0, exit = 1;
+		
+		// Clip the segment against each of the rectangle's four edges in turn.
+		for (int edge = 0; edge != 4; edge ++) {
+			final float direction, distance;
+			switch (edge) {
+			case 0 :
+				direction = -deltaX;
+				distance = x0 - bounds.x;
+				break;
+			case 1 :
+				direction = deltaX;
+				distance = bounds.x + bounds.width - x0;
+				break;
+			case 2 :
+				direction = -deltaY;
+				distance = y0 - bounds.y;
+				break;
+			default :
+				direction = deltaY;
+				distance = bounds.y + bounds.height - y0;
+			}
+			
+			if (direction == 0) {
+				// The segment runs parallel to the edge, and misses the rectangle if it is outside of it.
+				if (distance < 0)
+					return -1;
+			} else {
+				final float along = distance / direction;
+				if (direction < 0)
+					entry = Math.max(entry, along);
+				else
+					exit = Math.min(exit, along);
+				if (entry > exit)
+					return -1;
+			}
+		}
+		return entry;
+	}
+	
+	/** @return the column containing the x-coordinate, clamped to the grid. */
+	private int column(float x) {
+		return clamp((int) Math.floor(x / cellSize), columns - 1);
+	}
+	
+	/** @return the row containing the y-coordinate, clamped to the grid. */
+	private int row(float y) {
+		return clamp((int) Math.floor(y / cellSize), rows - 1);
+	}
+	
+	private static int clamp(int index, int maximum) {
+		return (index < 0)? 0 : (index > maximum)? maximum : index;
+	}
+}
@@ -4,7 +4,6 @@ import aurelienribon.tweenengine.BaseTween;
 import aurelienribon.tweenengine.Tween;
 import aurelienribon.tweenengine.TweenCallback;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.jbs.framework.io.InputProxy;
@@ -12,6 +11,7 @@ import com.jbs.framework.rendering.Graphic;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.util.Updatable;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.TouchPointer;
 import com.jbs.swipe.effects.Animator;
 import com.jbs.swipe.effects.Explosion;
 import com.jbs.swipe.effects.SmallFlame;
@@ -22,7 +22,9 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 	
 	private final Vector2
 		// The position of the Bomb.
-		position;
+		position,
+		// The position of the Bomb before the last fixed step, rendering interpolates from it.
+		previousPosition;
 	
 	private float
 		// The magnitude of the Bomb's explosion.
@@ -39,6 +41,7 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 	public Bomb(final Game game) {
 		super(game);
 		position = new Vector2(0, 0);
+		previousPosition = new Vector2(0, 0);
 		state = new IdleState(this);
 		state.enterState();
 	}
@@ -73,9 +76,16 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 		this.explosionMagnitude = newMagnitude;
 	}
 	
-	/** Set the position of the Bomb. */
+	/** Set the position of the Bomb. The move is not interpolated, the Bomb is rendered at its new position straight away. */
 	public final void setPosition(float x, float y) {
 		position.set(x, y);
+		previousPosition.set(x, y);
+	}
+	
+	/** Move the Bomb as part of a fixed step, leaving its previous position for interpolation. */
+	protected final void stepTo(float x, float y) {
+		previousPosition.set(position);
+		position.set(x, y);
 	}
 	
 	public final float x() {
@@ -86,6 +96,16 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 		return position.y;
 	}
 	
+	/** @return the x-Coordinate to render the Bomb at, between its last two stepped positions. */
+	protected final float renderX() {
+		return previousPosition.x + (position.x - previousPosition.x) * game.clock().interpolation();
+	}
+	
+	/** @return the y-Coordinate to render the Bomb at, between its last two stepped positions. */
+	protected final float renderY() {
+		return previousPosition.y + (position.y - previousPosition.y) * game.clock().interpolation();
+	}
+	
 	/** Set the state of the Bomb. */
 	public final void setState(BombState newState) {
 		state.exitState();
@@ -110,7 +130,7 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 	
 	@Override
 	protected void activate() {
-		if (!Gdx.input.isTouched())
+		if (!game.touchInput().pointer(0).isTouched())
 			throw new RuntimeException("Cannot activate a Bomb if the input is not touched.");
 		
 		grab();
@@ -122,8 +142,8 @@ public class Bomb extends Trap<SwipeTile> implements Renderable, Updatable {
 	protected void blowTargetsAwayFrom(Explosion explosion, SwipeTile... targets) {
 		// For each Tile to blow away,
 		for (final SwipeTile target : targets) {
-			// If the target is invisible,
-			if (target.opacity() == 0)
+			// If the target is invisible or has already left the Level,
+			if (target.opacity() == 0 || target.isPooled())
 				// Dont blow it up.
 				continue;
 			
@@ -203,7 +223,10 @@ abstract class BombState implements Renderable, Updatable {
 
 class IdleState extends BombState {
 	
-	private float rotation = 0;
+	private float
+		rotation = 0,
+		// The rotation before the last fixed step, rendering interpolates from it.
+		previousRotation = 0;
 	
 	public IdleState(Bomb bomb) {
 		super(bomb);
@@ -211,11 +234,11 @@ class IdleState extends BombState {
 	
 	@Override
 	public void updateWith(InputProxy input) {
-		// If the bomb isnt already grabbed and the input is touching,
-		if (!bomb.grabbed() && input.isTouched())
-			if (input.getX() > bomb.x() && input.getX() < bomb.x() + bomb.texture().getRegionWidth())
-				if (input.getY() > bomb.y() && input.getY() < bomb.y() + bomb.texture().getRegionHeight())
-					bomb.setState(new GrabbedState(bomb));
+		final TouchPointer pointer = bomb.game.touchInput().pointer(0);
+		// If the bomb isnt already grabbed and the finger is touching it,
+		if (!bomb.grabbed() && pointer.isTouched())
+			if (pointer.isWithin(bomb.x(), bomb.y(), bomb.texture().getRegionWidth(), bomb.texture().getRegionHeight()))
+				bomb.setState(new GrabbedState(bomb));
 		assertBombIsInScreen();
 	}
 	
@@ -224,19 +247,21 @@ class IdleState extends BombState {
 		return rotation;
 	}
 	
-	/** Set the Bomb's rotation to the specified angle in degrees. */
+	/** Set the Bomb's rotation to the specified angle in degrees. The rotation is not interpolated. */
 	public void setRotation(float degrees) {
-		rotation = degrees;
+		rotation = previousRotation = degrees;
 	}
 	
-	/** Rotate the Bomb by the specified angle in degrees. */
+	/** Rotate the Bomb by the specified angle in degrees as part of a fixed step, leaving the previous rotation for interpolation. */
 	public final void rotate(float degrees) {
-		setRotation(rotation() + degrees);
+		previousRotation = rotation;
+		rotation += degrees;
 	}
 	
 	@Override
 	public void renderTo(SpriteBatch batch) {
-		Graphic.drawRotated(batch, bomb.texture(), new Vector2(bomb.x(), bomb.y()), rotation());
+		final float renderRotation = previousRotation + (rotation - previousRotation) * bomb.game.clock().interpolation();
+		Graphic.drawRotated(batch, bomb.texture(), new Vector2(bomb.renderX(), bomb.renderY()), renderRotation);
 	}
 }
 
@@ -305,12 +330,13 @@ class GrabbedState extends LitState {
 	
 	@Override
 	public void updateWith(InputProxy input) {
-		// If the Input is still touched,
-		if (input.isTouched()) {
+		final TouchPointer pointer = bomb.game.touchInput().pointer(0);
+		// If the finger is still touched,
+		if (pointer.isTouched()) {
 			// Update the Grabbed state.
 			super.updateWith(input);
-			bomb.setPosition(input.getX(), input.getY());
-			velocity.add(input.getDeltaX(), input.getDeltaY());
+			bomb.setPosition(pointer.x(), pointer.y());
+			velocity.add(pointer.deltaX(), pointer.deltaY());
 			velocity.mul(velocityDamping);
 		} else {
 			// The player released the Bomb, enter the thrown-state.
@@ -338,19 +364,23 @@ class ThrownState extends LitState {
 	@Override
 	public void updateWith(InputProxy input) {
 		super.updateWith(input);
-		// Move the bomb.
-		bomb.setPosition(bomb.x() + velocity.x, bomb.y() + velocity.y);
-		// Multiply the velocity by the damping.
-		velocity.mul(damping);
-		
-		super.rotate(torque);
-		torque *= damping;
 		
-		// Bounce the Bomb off the edge of the screen.
-		if (bomb.x() + bomb.texture().getRegionWidth() > bomb.game.screenWidth() || bomb.x() < 0)
-			velocity.mul(-1, 1);
-		if (bomb.y() + bomb.texture().getRegionHeight() > bomb.game.screenHeight() || bomb.y() < 0)
-			velocity.mul(1, -1);
+		// Move the Bomb once per fixed step so it flies the same distance at any frame rate.
+		for (int step = bomb.game.clock().steps(); step != 0; step --) {
+			// Move the bomb, rendering interpolates between the steps.
+			bomb.stepTo(bomb.x() + velocity.x, bomb.y() + velocity.y);
+			// Multiply the velocity by the damping.
+			velocity.mul(damping);
+			
+			super.rotate(torque);
+			torque *= damping;
+			
+			// Bounce the Bomb off the edge of the screen.
+			if (bomb.x() + bomb.texture().getRegionWidth() > bomb.game.screenWidth() || bomb.x() < 0)
+				velocity.mul(-1, 1);
+			if (bomb.y() + bomb.texture().getRegionHeight() > bomb.game.screenHeight() || bomb.y() < 0)
+				velocity.mul(1, -1);
+		}
 	}
 	
 	@Override
@@ -374,7 +404,7 @@ class ThrownState extends LitState {
 		velocity.set(x, y);
 	}
 	
-	/** Set the value to multiply the velocity by every frame. */
+	/** Set the value to multiply the velocity by every fixed step. */
 	public final void setDamping(float newDamping) {
 		damping = newDamping;
 	}
@@ -1,6 +1,7 @@
 package com.jbs.swipe.traps;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import aurelienribon.tweenengine.BaseTween;
 import aurelienribon.tweenengine.Tween;
@@ -10,11 +11,15 @@ import aurelienribon.tweenengine.equations.Quad;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import com.jbs.framework.io.InputProxy;
 import com.jbs.framework.rendering.Graphic;
 import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.util.Updatable;
+import com.jbs.swipe.AssetManifest;
+import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.TouchPointer;
 import com.jbs.swipe.effects.Animator;
 import com.jbs.swipe.gui.GraphicAccessor;
 import com.jbs.swipe.levels.LevelState;
@@ -23,7 +28,10 @@ import com.jbs.swipe.tiles.SwipeTile.TileState;
 
 public class DarkHole extends Trap<LevelState> implements Renderable, Updatable {
 	
+	/* The Tiles being sucked in and their generations. Releasing a Tile to its pool kills the Tween that would
+	 * remove it, so Tiles that have been reused since they were targeted are forgotten by their generation. */
 	private final ArrayList<SwipeTile> targetedTiles;
+	private final IntArray targetedGenerations;
 	
 	private final Graphic graphic;
 	private final float
@@ -38,6 +46,8 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 		growDuration = shrinkDuration;
 	private long
 		startTime;
+	private int
+		iconHandle = AssetManifest.NO_HANDLE;
 	private boolean
 		/** True if the DarkHole is snapped to the Input. */
 		grabbed = false;
@@ -48,6 +58,7 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 		this.graphic = new Graphic(position, texture());
 		graphic.scale(initialScale);
 		this.targetedTiles = new ArrayList<SwipeTile>(20);
+		this.targetedGenerations = new IntArray(20);
 	}
 	
 	/** Create a DarkHole trap at the default position. */
@@ -62,22 +73,26 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	
 	@Override
 	public void updateWith(InputProxy input) {
+		final TouchPointer pointer = game.touchInput().pointer(0);
 		// Release the DarkHole if it is no longer grabbed.
-		if (grabbed() && !input.isTouched())
+		if (grabbed() && !pointer.isTouched())
 			release();
 		if (grabbed())
-			setPosition(input.getX(), input.getY());
+			setPosition((int) pointer.x(), (int) pointer.y());
+		forgetReusedTiles();
 		
-		if (!expired() && !grabbed())
-			for (SwipeTile tile : targetLevel().tiles()) {
-				if (tile != null)
-					suckIn(tile);
-			}
-		else if (this.expired())
+		if (!expired() && !grabbed()) {
+			// Walk the Level's index of touchable Tiles instead of copying them out of the Level every frame.
+			final List<SwipeTile> tiles = targetLevel().tileIndex().tiles();
+			for (int i = 0; i != tiles.size(); i ++)
+				suckIn(tiles.get(i));
+		} else if (this.expired()) {
 			// Stop sucking in any tiles that the DarkHole is sucking in.
-			for (SwipeTile tile : targetLevel().tiles())
-				if (tile != null && isSuckingIn(tile))
-					game.tweenManager().killTarget(tile);
+			for (int i = 0; i != targetedTiles.size(); i ++)
+				game.tweenManager().killTarget(targetedTiles.get(i));
+			targetedTiles.clear();
+			targetedGenerations.clear();
+		}
 	}
 	
 	/** Set the Bomb's center to the specified coordinates. */
@@ -113,7 +128,7 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	
 	/** @return true if the DarkHole is sucking in the specified Tile. */
 	public boolean isSuckingIn(SwipeTile tile) {
-		return targetedTiles.contains(tile);
+		return indexOfTarget(tile) != -1;
 	}
 	
 	/** @return true if the DarkHole is snapped to the Input. */
@@ -143,7 +158,7 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	}
 	
 	protected void startSucking() {
-		this.startTime = System.currentTimeMillis();
+		this.startTime = game.clock().time();
 		
 		beginRotating(rotationSpeed);
 		
@@ -162,37 +177,64 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	
 	protected void suckIn(SwipeTile... tiles) {
 		// For all the Tiles to suck in,
-		for (final SwipeTile tile : tiles) {
-			if (targetedTiles.contains(tile))
-				continue;
-			// If the target is invisible,
-			if (tile.opacity() == 0)
-				// Dont suck it in.
-				continue;
-			
-			// Add the Tile to the list of Tiles getting sucked in.
-			targetedTiles.add(tile);
-			
-			final float
-				DISTANCE = (float)Math.sqrt(tile.x()*tile.x() + tile.y()*tile.y()),
-				ANIMATION_DURATION = DISTANCE;
-			
-			new Animator(game)
-				.attractTile(tile, new Vector2(x(), y()), ANIMATION_DURATION)
-				.get().setCallback(new TweenCallback() {
-					public void onEvent(int type, BaseTween<?> source) {
-						// Called when the tile are all sucked into the DarkHole.
-						if (tile.tileState() != TileState.EXPIRED && tile.tileState() != TileState.FINISHED) {
-							// Notify the Tile's listener that the Tile was correctly swipe (so the player gets points)
-							tile.setState(TileState.CORRECTLY_SWIPED, false);
-							// and that the Tile is finished.
-							tile.setState(TileState.FINISHED);
-						}
-						// Remove the Tile from the list of Tiles getting sucked in.
-						targetedTiles.remove(tile);
+		for (final SwipeTile tile : tiles)
+			suckIn(tile);
+	}
+	
+	/** Begin sucking in the Tile if it is visible and not already being sucked in. */
+	protected void suckIn(final SwipeTile tile) {
+		if (indexOfTarget(tile) != -1)
+			return;
+		// If the target is invisible,
+		if (tile.opacity() == 0)
+			// Dont suck it in.
+			return;
+		
+		// Add the Tile to the list of Tiles getting sucked in.
+		targetedTiles.add(tile);
+		targetedGenerations.add(tile.generation());
+		
+		final float
+			DISTANCE = (float)Math.sqrt(tile.x()*tile.x() + tile.y()*tile.y()),
+			ANIMATION_DURATION = DISTANCE;
+		
+		new Animator(game)
+			.attractTile(tile, new Vector2(x(), y()), ANIMATION_DURATION)
+			.get().setCallback(new TweenCallback() {
+				public void onEvent(int type, BaseTween<?> source) {
+					// Called when the tile are all sucked into the DarkHole.
+					if (tile.tileState() != TileState.EXPIRED && tile.tileState() != TileState.FINISHED) {
+						// Notify the Tile's listener that the Tile was correctly swipe (so the player gets points)
+						tile.setState(TileState.CORRECTLY_SWIPED, false);
+						// and that the Tile is finished.
+						tile.setState(TileState.FINISHED);
 					}
-				});
-		}
+					// Remove the Tile from the list of Tiles getting sucked in.
+					final int index = indexOfTarget(tile);
+					if (index != -1) {
+						targetedTiles.remove(index);
+						targetedGenerations.removeIndex(index);
+					}
+				}
+			});
+	}
+	
+	/** @return the index of the Tile in the list of Tiles getting sucked in, or -1 if it is not being sucked in
+	 * or has been reused since it was. */
+	private int indexOfTarget(SwipeTile tile) {
+		for (int i = 0; i != targetedTiles.size(); i ++)
+			if (targetedTiles.get(i) == tile && targetedGenerations.get(i) == tile.generation())
+				return i;
+		return -1;
+	}
+	
+	/** Forget the targeted Tiles that were released to their pool, and may have been reused, since they were targeted. */
+	private void forgetReusedTiles() {
+		for (int i = targetedTiles.size() - 1; i >= 0; i --)
+			if (targetedGenerations.get(i) != targetedTiles.get(i).generation()) {
+				targetedTiles.remove(i);
+				targetedGenerations.removeIndex(i);
+			}
 	}
 	
 	/** @return the Level to suck Tiles in on. */
@@ -202,7 +244,7 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	
 	/** @return the number of milliseconds that have passed. */
 	protected float deltaTime() {
-		return (float)(System.currentTimeMillis() - startTime);
+		return (float)(game.clock().time() - startTime);
 	}
 	
 	@Override
@@ -222,7 +264,9 @@ public class DarkHole extends Trap<LevelState> implements Renderable, Updatable
 	
 	@Override
 	public TextureRegion icon() {
-		return game.getTexture("assets/Traps/"+trapName()+"Icon.png");
+		if (iconHandle == AssetManifest.NO_HANDLE)
+			iconHandle = Assets.textureHandle("assets/Traps/"+trapName()+"Icon.png");
+		return Assets.texture(iconHandle);
 	}
 	
 	/** Begin rotating the BlackHole indefinitely. */
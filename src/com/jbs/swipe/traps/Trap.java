@@ -1,12 +1,16 @@
 package com.jbs.swipe.traps;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.jbs.swipe.AssetManifest;
+import com.jbs.swipe.Assets;
 import com.jbs.swipe.Game;
 
 public abstract class Trap<Target> {
 	
 	protected final Game game;
 	private Target[] targets;
+	/* The handle of the Trap's texture, looked up the first time it is retrieved. */
+	private int textureHandle = AssetManifest.NO_HANDLE;
 	
 	public Trap(Game game) {
 		this.game = game;
@@ -53,7 +57,10 @@ public abstract class Trap<Target> {
 	
 	/** @return the default Texture based on the Trap's name. */
 	public final TextureRegion texture() {
-		return game.getTexture("assets/Traps/" + trapName() + ".png");
+		// The texture is retrieved many times a frame, so its handle is kept rather than building its path every time.
+		if (textureHandle == AssetManifest.NO_HANDLE)
+			textureHandle = Assets.textureHandle("assets/Traps/" + trapName() + ".png");
+		return Assets.texture(textureHandle);
 	}
 	
 	/** @return the Trap's desired icon. */
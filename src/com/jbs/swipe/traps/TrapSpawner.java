@@ -9,6 +9,7 @@ import com.jbs.framework.rendering.Renderable;
 import com.jbs.framework.rendering.ui.Button;
 import com.jbs.framework.util.Updatable;
 import com.jbs.swipe.Game;
+import com.jbs.swipe.RenderQueue;
 import com.jbs.swipe.gui.Font;
 import com.jbs.swipe.levels.LevelState;
 
@@ -29,6 +30,8 @@ public abstract class TrapSpawner implements Renderable, Updatable {
 	private final Font font;
 	private final Graphic bg;
 	private final Button button;
+	/* The parts of the TrapSpawner, each drawn from its own Texture, so they can be queued separately. */
+	private final Renderable bgPart, buttonPart, stockPart;
 	
 	protected final Game game;
 	protected final LevelState level;
@@ -38,7 +41,7 @@ public abstract class TrapSpawner implements Renderable, Updatable {
 		this.level = level;
 		this.trap = trap;
 		
-		this.font = new Font(game.getTexture(SOURCE));
+		this.font = new Font(game.digitGlyphs(SOURCE));
 		font.setAlignment(Font.ALIGNMENT_RIGHT);
 		
 		this.button = new Button(new Vector2(position * (WIDTH + SPACING), HEIGHT + BOTTOM_MARGIN), trap.texture()) {
@@ -60,21 +63,41 @@ public abstract class TrapSpawner implements Renderable, Updatable {
 		};
 		bg.setSize(button.width(), button.height());
 		bg.scale(DEFAULT_BG_SCALE);
+		
+		this.bgPart = new Renderable() {
+			@Override
+			public void renderTo(SpriteBatch batch) {
+				renderBGTo(batch);
+			}
+		};
+		this.buttonPart = new Renderable() {
+			@Override
+			public void renderTo(SpriteBatch batch) {
+				renderButtonTo(batch);
+			}
+		};
+		this.stockPart = new Renderable() {
+			@Override
+			public void renderTo(SpriteBatch batch) {
+				renderStockTo(batch);
+			}
+		};
 	}
 	
 	@Override
 	public void renderTo(SpriteBatch batch) {
 		renderBGTo(batch);
+		renderButtonTo(batch);
+		renderStockTo(batch);
+	}
 		
-		if (stock() > 0)
-			button.renderTo(batch);
-		else {
-			batch.setColor(Color.GRAY);
-			button.renderTo(batch);
-			batch.setColor(Color.WHITE);
-		}
-		
-		font.renderIntegerTo(batch, trap.stock(), button.x() - width()/4, y() + height()/4);
+	/** Add the TrapSpawner's background, button and stock to the RenderQueue. Queued beside other
+	 * TrapSpawners, each part is drawn together with the same part of the others where that keeps
+	 * every part drawn over the one beneath it. */
+	public void queueTo(RenderQueue queue) {
+		queue.add(bg.texture(), bgPart);
+		queue.addOver(button.texture(), buttonPart);
+		queue.addOver(font.texture(), stockPart);
 	}
 	
 	@Override
@@ -128,5 +151,19 @@ public abstract class TrapSpawner implements Renderable, Updatable {
 		bg.renderTo(batch);
 	}
 	
+	protected void renderButtonTo(SpriteBatch batch) {
+		if (stock() > 0)
+			button.renderTo(batch);
+		else {
+			batch.setColor(Color.GRAY);
+			button.renderTo(batch);
+			batch.setColor(Color.WHITE);
+		}
+	}
+	
+	protected void renderStockTo(SpriteBatch batch) {
+		font.renderIntegerTo(batch, trap.stock(), button.x() - width()/4, y() + height()/4);
+	}
+	
 	public abstract void spawnTrap();
 }
\ No newline at end of file
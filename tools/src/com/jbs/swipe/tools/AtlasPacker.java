@@ -0,0 +1,169 @@
+package com.jbs.swipe.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.tools.imagepacker.TexturePacker2;
+import com.jbs.swipe.Assets;
+
+/**
+ * The build step that packs the standalone Textures of each group listed in assets/res into the pages of the group's
+ * packed atlas, Assets.packedAtlasOf(group), then rewrites assets/res to load the packed atlas in place of the images
+ * it now contains. Game.getTexture() resolves the packed images to their atlas regions, so no code has to change when
+ * an image is packed. Packing by group keeps each atlas in the group it is streamed with.
+ *
+ * Run it on the desktop from the swipe-tools project, which has gdx-tools on its classpath, with the directory that
+ * holds the assets folder :
+ * java com.jbs.swipe.tools.AtlasPacker [root directory]
+ */
+public final class AtlasPacker {
+	
+	private static final String
+		RESOURCE_LIST = "assets/res",
+		OUTPUT_DIRECTORY = "assets/output",
+		LINE_SEPARATOR = "\r\n"; // Assets.loadAssetsFrom() splits the list on Windows line endings.
+	private static final int
+		MAXIMUM_PAGE_SIZE = 2048,
+		// Images larger than this in either dimension are left standalone, they would fill a page on their own.
+		MAXIMUM_IMAGE_SIZE = MAXIMUM_PAGE_SIZE / 2,
+		PADDING = 2;
+	
+	private AtlasPacker() { }
+	
+	public static void main(String[] args) throws IOException {
+		final File root = new File((args.length > 0)? args[0] : ".");
+		final FileHandle resourceList = new FileHandle(new File(root, RESOURCE_LIST));
+		if (!resourceList.exists())
+			throw new RuntimeException("Cannot pack the atlas, no resource list at " + resourceList.path());
+		
+		// Split the list into it's groups, paths before the first header belong to the boot group.
+		final ArrayList<ArrayList<String>> groups = new ArrayList<ArrayList<String>>();
+		for (int group = 0; group != Assets.GROUP_NAMES.length; group ++)
+			groups.add(new ArrayList<String>());
+		int currentGroup = Assets.BOOT;
+		for (String line : resourceList.readString().split(LINE_SEPARATOR)) {
+			if (line.length() == 0)
+				continue;
+			if (line.startsWith("[") && line.endsWith("]"))
+				currentGroup = Assets.groupNamed(line.substring(1, line.length() - 1));
+			else
+				groups.get(currentGroup).add(line);
+		}
+		
+		final StringBuilder newResources = new StringBuilder();
+		for (int group = 0; group != groups.size(); group ++) {
+			newResources.append('[').append(Assets.GROUP_NAMES[group]).append(']').append(LINE_SEPARATOR);
+			for (String path : pack(root, group, groups.get(group)))
+				newResources.append(path).append(LINE_SEPARATOR);
+		}
+		resourceList.writeString(newResources.toString(), false);
+	}
+	
+	/** Pack the group's images into the group's packed atlas.
+	 * @return the group's paths to load, the paths that were not packed followed by the packed atlas if one was made. */
+	private static ArrayList<String> pack(File root, int group, ArrayList<String> resources) throws IOException {
+		final String packedAtlas = Assets.packedAtlasOf(group);
+		final ArrayList<String>
+			packed = new ArrayList<String>(),
+			remaining = new ArrayList<String>();
+		int tooLarge = 0;
+		
+		// Stage every image that can be packed under its region name, so the packer names its region the way Assets expects.
+		final FileHandle staging = new FileHandle(File.createTempFile("atlas", ""));
+		staging.delete();
+		staging.mkdirs();
+		
+		for (String path : resources) {
+			if (path.startsWith(Assets.PACKED_ATLAS_PREFIX))
+				continue;
+			
+			final File image = new File(root, path);
+			if (!isPackable(path) || !image.exists()) {
+				remaining.add(path);
+				continue;
+			}
+			
+			final BufferedImage pixels = ImageIO.read(image);
+			if (pixels == null || pixels.getWidth() > MAXIMUM_IMAGE_SIZE || pixels.getHeight() > MAXIMUM_IMAGE_SIZE) {
+				remaining.add(path);
+				tooLarge ++;
+				continue;
+			}
+			
+			new FileHandle(image).copyTo(staging.child(Assets.packedRegionName(path) + extensionOf(path)));
+			packed.add(path);
+		}
+		
+		if (packed.isEmpty()) {
+			System.out.println("AtlasPacker found no standalone images to pack in the " + Assets.GROUP_NAMES[group] + " group.");
+			staging.deleteDirectory();
+			return remaining;
+		}
+		
+		final String atlasName = new File(packedAtlas).getName();
+		TexturePacker2.process(settings(), staging.path(), new File(root, OUTPUT_DIRECTORY).getPath(), atlasName);
+		staging.deleteDirectory();
+		
+		// Load the packed atlas in place of the images it holds.
+		remaining.add(packedAtlas);
+		report(root, packedAtlas, packed.size(), remaining.size() - 1, tooLarge);
+		return remaining;
+	}
+	
+	private static TexturePacker2.Settings settings() {
+		final TexturePacker2.Settings settings = new TexturePacker2.Settings();
+		settings.maxWidth = settings.maxHeight = MAXIMUM_PAGE_SIZE;
+		settings.paddingX = settings.paddingY = PADDING;
+		settings.duplicatePadding = true;
+		// Pack the staged subdirectories together, keeping their paths in the region names.
+		settings.combineSubdirectories = true;
+		// Regions stand in for whole Textures, so they must not be rotated or have their edges stripped.
+		settings.rotation = false;
+		settings.stripWhitespaceX = settings.stripWhitespaceY = false;
+		// Match the filtering Assets gives standalone Textures.
+		settings.filterMin = settings.filterMag = TextureFilter.Linear;
+		return settings;
+	}
+	
+	/** @return true if the path is an image the packer can name as Assets expects. TexturePacker treats a trailing
+	 * "_number" as the index of an animation frame and drops it from the region's name, so those are left standalone. */
+	private static boolean isPackable(String path) {
+		if (!path.endsWith(".png") && !path.endsWith(".jpg") && !path.endsWith(".jpeg"))
+			return false;
+		if (path.startsWith(OUTPUT_DIRECTORY))
+			return false;
+		
+		final String name = Assets.packedRegionName(path);
+		final int underscore = name.lastIndexOf('_');
+		if (underscore == -1 || underscore == name.length() - 1)
+			return true;
+		for (int i = underscore + 1; i != name.length(); i ++)
+			if (!Character.isDigit(name.charAt(i)))
+				return true;
+		return false;
+	}
+	
+	private static String extensionOf(String path) {
+		return path.substring(path.lastIndexOf('.'));
+	}
+	
+	/** Print how many images were packed and how many Texture binds a frame that draws them all saves. */
+	private static void report(File root, String packedAtlas, int packedImages, int remainingResources, int tooLarge) {
+		final String pagePrefix = Assets.packedRegionName(new File(packedAtlas).getName());
+		int pages = 0;
+		for (File file : new File(root, OUTPUT_DIRECTORY).listFiles())
+			if (file.getName().startsWith(pagePrefix) && file.getName().endsWith(".png"))
+				pages ++;
+		
+		System.out.println("AtlasPacker packed " + packedImages + " images into " + pages + " page(s) of " + packedAtlas);
+		System.out.println("A frame that draws every packed image binds " + pages + " Texture(s) instead of "
+			+ packedImages + ", saving up to " + (packedImages - pages) + " binds per frame.");
+		System.out.println(tooLarge + " image(s) were too large to pack, " + remainingResources + " resource(s) are still loaded standalone.");
+	}
+}
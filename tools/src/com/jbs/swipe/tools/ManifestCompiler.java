@@ -0,0 +1,45 @@
+package com.jbs.swipe.tools;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.jbs.swipe.AssetManifest;
+import com.jbs.swipe.Assets;
+
+/**
+ * The build step that compiles assets/res into the binary AssetManifest the Game reads at startup, checking every
+ * path exists and typing it by its extension here rather than on the device. Run it after the AtlasPacker, as the
+ * packer rewrites assets/res. The Game falls back to the text list whenever it no longer matches the compiled one.
+ *
+ * Run it on the desktop from the swipe-tools project, which has gdx-tools on its classpath, with the directory that
+ * holds the assets folder :
+ * java com.jbs.swipe.tools.ManifestCompiler [root directory]
+ */
+public final class ManifestCompiler {
+	
+	private static final String RESOURCE_LIST = "assets/res";
+	
+	private ManifestCompiler() { }
+	
+	public static void main(String[] args) {
+		final FileHandle root = new FileHandle(new File((args.length > 0)? args[0] : "."));
+		final FileHandle resourceList = root.child(RESOURCE_LIST);
+		if (!resourceList.exists())
+			throw new RuntimeException("Cannot compile the manifest, no resource list at " + resourceList.path());
+		
+		final String text = resourceList.readString();
+		final AssetManifest manifest = AssetManifest.parse(text, root);
+		final byte[] binary = manifest.toBinary(text.hashCode());
+		
+		final FileHandle output = root.child(RESOURCE_LIST + AssetManifest.BINARY_SUFFIX);
+		output.writeBytes(binary, false);
+		
+		final int[] assetsInGroup = new int[Assets.GROUP_NAMES.length];
+		for (int handle = 0; handle != manifest.size(); handle ++)
+			assetsInGroup[manifest.group(handle)] ++;
+		
+		System.out.println("ManifestCompiler wrote " + manifest.size() + " assets (" + binary.length + " bytes) to " + output.path());
+		for (int group = 0; group != assetsInGroup.length; group ++)
+			System.out.println("  " + Assets.GROUP_NAMES[group] + " : " + assetsInGroup[group] + " assets");
+	}
+}
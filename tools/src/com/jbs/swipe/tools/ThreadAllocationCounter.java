@@ -0,0 +1,32 @@
+package com.jbs.swipe.tools;
+
+import java.lang.management.ManagementFactory;
+
+import com.jbs.swipe.benchmark.AllocationCounter;
+
+/**
+ * Counts the bytes the current thread has allocated with the HotSpot ThreadMXBean. Unlike the growth of the heap,
+ * the count is exact and is not disturbed by the other threads or by garbage collections.
+ *
+ * The ThreadMXBean is only on desktop JVMs, so the counter lives in the swipe-tools project. Pass it to
+ * AllocationCheck.run() from the desktop launcher.
+ */
+public final class ThreadAllocationCounter implements AllocationCounter {
+	
+	private final com.sun.management.ThreadMXBean threads;
+	
+	public ThreadAllocationCounter() {
+		final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean))
+			throw new RuntimeException("Error in ThreadAllocationCounter : The JVM's ThreadMXBean cannot count allocated bytes.");
+		this.threads = (com.sun.management.ThreadMXBean) threads;
+		if (!this.threads.isThreadAllocatedMemorySupported())
+			throw new RuntimeException("Error in ThreadAllocationCounter : The JVM does not support counting allocated bytes.");
+		this.threads.setThreadAllocatedMemoryEnabled(true);
+	}
+	
+	@Override
+	public long allocatedBytes() {
+		return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}